@@ -0,0 +1,82 @@
+package com.brocode.benchmark;
+
+import com.brocode.entity.Batch;
+import com.brocode.entity.Product;
+import com.brocode.repo.BatchRepo;
+import com.brocode.service.BatchAllocationService;
+import com.brocode.service.BatchAllocationService.BatchAllocation;
+import com.brocode.service.OpenBatchRegistry;
+import com.brocode.service.dto.OpenBatchDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The allocation loop behind every sale line: splitting the amount over open batches and taking it
+ * off the touched batches. The repository is a stub serving batches from memory, so only our own
+ * work is measured. Every invocation puts the stock back, the queue looks the same each time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchAllocationBenchmark {
+    private static final int OPEN_BATCHES = 64;
+
+    @Param({"1", "4", "16"})
+    int batchesTouched;
+
+    private final Map<Long, Batch> batches = new LinkedHashMap<>();
+    private Product product;
+    private OpenBatchRegistry registry;
+    private BatchAllocationService allocationService;
+    private double amount;
+
+    @Setup
+    public void setUp(){
+        product = Fixtures.product(1);
+        for (long id = 1; id <= OPEN_BATCHES; id++) {
+            batches.put(id, Batch.builder().id(id).product(product).stockLeft(1.0).build());
+        }
+
+        BatchRepo batchRepo = stubRepo();
+        registry = new OpenBatchRegistry(batchRepo);
+        registry.warmUp();
+        allocationService = new BatchAllocationService(batchRepo, registry);
+        amount = batchesTouched - 0.5;
+    }
+
+    @Benchmark
+    public List<BatchAllocation> allocate(){
+        List<BatchAllocation> allocations = allocationService.allocate(product, null, amount);
+
+        for (BatchAllocation allocation : allocations) {
+            Batch batch = allocation.batch();
+            batch.setStockLeft(batch.getStockLeft() + allocation.amount());
+            registry.release(batch, allocation.amount());
+        }
+        return allocations;
+    }
+
+    private BatchRepo stubRepo(){
+        return (BatchRepo) Proxy.newProxyInstance(BatchRepo.class.getClassLoader(), new Class<?>[]{BatchRepo.class}, (proxy, method, args) ->
+                switch (method.getName()) {
+                    case "findAllOpen" -> batches.values().stream()
+                            .map(batch -> new OpenBatchDto(batch.getId(), product.getId(), batch.getStockLeft()))
+                            .toList();
+                    case "findAllById" -> {
+                        List<Batch> found = new ArrayList<>();
+                        for (Object id : (Iterable<?>) args[0]) found.add(batches.get((Long) id));
+                        yield found;
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
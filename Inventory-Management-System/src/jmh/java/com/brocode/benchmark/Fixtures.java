@@ -0,0 +1,90 @@
+package com.brocode.benchmark;
+
+import com.brocode.entity.Category;
+import com.brocode.entity.Order;
+import com.brocode.entity.OrderItem;
+import com.brocode.entity.Product;
+import com.brocode.entity.Supplier;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Detached entities filled the way the database hands them back, for benchmarks that never touch it.
+ */
+final class Fixtures {
+    private static final LocalDateTime CREATED = LocalDateTime.of(2025, 3, 14, 9, 30);
+    private static final Category CATEGORY = Category.builder()
+            .id(1L)
+            .name("Beverages")
+            .createdAt(CREATED)
+            .lastModifiedAt(CREATED)
+            .createdBy("System")
+            .lastModifiedBy("System")
+            .build();
+    private static final Supplier SUPPLIER = Supplier.builder()
+            .id(1L)
+            .name("Harare Wholesale")
+            .build();
+
+    private Fixtures(){
+    }
+
+    static Product product(long id){
+        return Product.builder()
+                .id(id)
+                .productKey("PR" + (1000 + id))
+                .name("Sparkling Water 500ml " + id)
+                .description("Carbonated mineral water, 24 pack")
+                .category(CATEGORY)
+                .price(1.25 + id % 50)
+                .warningStockLevel(10.0)
+                .inStock(40.0 + id % 100)
+                .unit("pc")
+                .version(3L)
+                .createdAt(CREATED)
+                .lastModifiedAt(CREATED.plusDays(id % 30))
+                .createdBy("admin")
+                .lastModifiedBy("cashier")
+                .build();
+    }
+
+    static List<Product> products(int count){
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) products.add(product(i));
+        return products;
+    }
+
+    static Order order(long id, int items){
+        Order order = Order.builder()
+                .id(id)
+                .orderId("OD" + (1000 + id))
+                .orderDate(LocalDate.of(2025, 3, 14))
+                .supplier(SUPPLIER)
+                .totalAmount(125.0 * items)
+                .createdAt(CREATED)
+                .lastModifiedAt(CREATED)
+                .createdBy("admin")
+                .lastModifiedBy("admin")
+                .build();
+
+        List<OrderItem> orderItems = new ArrayList<>(items);
+        for (int i = 1; i <= items; i++) {
+            orderItems.add(OrderItem.builder()
+                    .id(id * 1000 + i)
+                    .order(order)
+                    .product(product(i))
+                    .amount(24.0)
+                    .orderPrice(5.2)
+                    .createdAt(CREATED)
+                    .lastModifiedAt(CREATED)
+                    .createdBy("admin")
+                    .lastModifiedBy("admin")
+                    .build());
+        }
+        order.setItems(orderItems);
+        return order;
+    }
+}
@@ -0,0 +1,39 @@
+package com.brocode.benchmark;
+
+import com.brocode.entity.Order;
+import com.brocode.entity.Product;
+import com.brocode.entity.Sale;
+import com.brocode.utils.IdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Display ids made for every order, sale and product on create.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdGeneratorBenchmark {
+    private final Order order = Order.builder().id(123_456L).build();
+    private final Sale sale = Sale.builder().id(123_456L).build();
+    private final Product product = Product.builder().id(123_456L).build();
+
+    @Benchmark
+    public String generateOrderId(){
+        return IdGenerator.generateOrderId(order);
+    }
+
+    @Benchmark
+    public String generateSaleId(){
+        return IdGenerator.generateSaleId(sale);
+    }
+
+    @Benchmark
+    public String generateProductKey(){
+        return IdGenerator.generateProductKey(product);
+    }
+}
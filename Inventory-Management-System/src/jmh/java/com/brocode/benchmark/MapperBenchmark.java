@@ -0,0 +1,47 @@
+package com.brocode.benchmark;
+
+import com.brocode.entity.Order;
+import com.brocode.entity.Product;
+import com.brocode.service.OrderItemMapper;
+import com.brocode.service.OrderMapper;
+import com.brocode.service.ProductMapper;
+import com.brocode.service.dto.OrderResponseDto;
+import com.brocode.service.dto.ProductResponseDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to response DTO mapping, done once per row on every list endpoint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    @Param({"1", "10", "100"})
+    int orderItems;
+
+    private final ProductMapper productMapper = new ProductMapper(null);
+    private final OrderMapper orderMapper = new OrderMapper(new OrderItemMapper(null), null);
+    private Product product;
+    private Order order;
+
+    @Setup
+    public void setUp(){
+        product = Fixtures.product(42);
+        order = Fixtures.order(7, orderItems);
+    }
+
+    @Benchmark
+    public ProductResponseDto productToResponse(){
+        return productMapper.productToResponse(product);
+    }
+
+    @Benchmark
+    public OrderResponseDto orderToResponse(){
+        return orderMapper.orderToResponse(order);
+    }
+}
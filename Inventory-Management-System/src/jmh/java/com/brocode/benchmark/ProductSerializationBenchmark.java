@@ -0,0 +1,42 @@
+package com.brocode.benchmark;
+
+import com.brocode.service.ProductMapper;
+import com.brocode.service.dto.ProductResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing a page of products as JSON, with the mapper set up the way Spring Boot configures it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductSerializationBenchmark {
+    @Param({"50", "500", "10000"})
+    int products;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private List<ProductResponseDto> page;
+
+    @Setup
+    public void setUp(){
+        ProductMapper mapper = new ProductMapper(null);
+        page = Fixtures.products(products).stream().map(mapper::productToResponse).toList();
+    }
+
+    @Benchmark
+    public byte[] writeProducts() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
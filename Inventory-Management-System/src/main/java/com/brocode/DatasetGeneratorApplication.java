@@ -0,0 +1,20 @@
+package com.brocode;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+/**
+ * Generates the synthetic dataset of the dataset profile into the configured database and exits,
+ * settings are taken as usual, e.g. {@code --inventory.dataset.line-items=10000000}.
+ */
+public class DatasetGeneratorApplication {
+
+	public static void main(String[] args) {
+		System.exit(SpringApplication.exit(new SpringApplicationBuilder(InventoryManagementSystemApplication.class)
+				.profiles("dataset")
+				.web(WebApplicationType.NONE)
+				.run(args)));
+	}
+
+}
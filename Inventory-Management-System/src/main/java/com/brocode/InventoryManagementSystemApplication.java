@@ -1,11 +1,31 @@
 package com.brocode;
 
+import com.brocode.security.AuthCacheProperties;
+import com.brocode.security.JwtCacheProperties;
 import com.brocode.security.RsaKeyProperties;
+import com.brocode.security.TokenProperties;
+import com.brocode.utils.ActivityLogProperties;
+import com.brocode.utils.CheckoutProperties;
+import com.brocode.utils.DatasetProperties;
+import com.brocode.utils.PagingProperties;
+import com.brocode.utils.StockStreamProperties;
+import com.brocode.utils.SyncProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
-@EnableConfigurationProperties(RsaKeyProperties.class)
+@EnableConfigurationProperties({
+		RsaKeyProperties.class,
+		PagingProperties.class,
+		CheckoutProperties.class,
+		ActivityLogProperties.class,
+		StockStreamProperties.class,
+		SyncProperties.class,
+		JwtCacheProperties.class,
+		AuthCacheProperties.class,
+		TokenProperties.class,
+		DatasetProperties.class
+})
 @SpringBootApplication
 public class InventoryManagementSystemApplication {
 
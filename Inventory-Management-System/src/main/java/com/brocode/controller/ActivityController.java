@@ -3,6 +3,8 @@ package com.brocode.controller;
 import com.brocode.entity.ActivityLog;
 import com.brocode.service.ActivityLogService;
 import com.brocode.service.dto.ActivityCreateDto;
+import com.brocode.service.dto.ActivityLogFilterDto;
+import com.brocode.service.dto.KeysetPage;
 import com.brocode.utils.Activity;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,7 +14,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
-import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -28,6 +29,8 @@ public class ActivityController {
             @RequestParam(defaultValue = "") String createdBy,
             @RequestParam(required = false) LocalDate dateCreated,
             @RequestParam(required = false) Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
             Authentication authentication
     ){
         String currentUsername = authentication.getName();
@@ -41,31 +44,15 @@ public class ActivityController {
             return ResponseEntity.of(log);
         }
 
-        List<ActivityLog> logs = service.getLogs().reversed();
+        // brocode's logs are excluded in the query itself unless current user is brocode
+        String hiddenUser = "brocode".equals(currentUsername) ? null : "brocode";
 
-        if (!"brocode".equals(currentUsername)) {
-            logs = logs.stream()
-                    .filter(log -> !"brocode".equals(log.getCreatedBy()))
-                    .toList();
-        }
+        ActivityLogFilterDto filter = new ActivityLogFilterDto(activity, createdBy, dateCreated, hiddenUser);
+        KeysetPage<ActivityLog> page = service.getPage(filter, cursor, size);
 
-        if (activity != null){
-            logs = logs.stream()
-                    .filter(log -> log.getActivity().equals(activity))
-                    .toList();
-        }
-        if (!createdBy.isEmpty()){
-            logs = logs.stream()
-                    .filter(log -> log.getCreatedBy().equalsIgnoreCase(createdBy))
-                    .toList();
-        }
-        if (dateCreated != null){
-            logs = logs.stream()
-                    .filter(log -> log.getCreatedAt().toLocalDate().isEqual(dateCreated))
-                    .toList();
-        }
+        if (page.nextCursor() != null) return ResponseEntity.ok().header(KeysetPage.NEXT_CURSOR_HEADER, page.nextCursor()).body(page.items());
 
-        return ResponseEntity.ok(logs);
+        return ResponseEntity.ok(page.items());
     }
 
     @DeleteMapping
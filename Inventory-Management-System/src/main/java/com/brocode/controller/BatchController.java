@@ -1,10 +1,13 @@
 package com.brocode.controller;
 
 import com.brocode.service.BatchService;
+import com.brocode.service.CollectionVersions;
+import com.brocode.service.CollectionVersions.Type;
 import com.brocode.service.dto.BatchResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -13,9 +16,12 @@ import java.util.List;
 @RequestMapping("/inventory/api/batch")
 public class BatchController {
     private final BatchService service;
+    private final CollectionVersions collectionVersions;
 
     @GetMapping
-    public List<BatchResponseDto> getBatch(){
+    public List<BatchResponseDto> getBatch(WebRequest request){
+        if (request.checkNotModified(collectionVersions.etag("batches", Type.BATCH, Type.SALE, Type.ORDER, Type.PRODUCT))) return null;
+
         return service.getBatches().reversed();
     }
 
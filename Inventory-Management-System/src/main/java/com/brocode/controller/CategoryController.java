@@ -1,24 +1,31 @@
 package com.brocode.controller;
 
 import com.brocode.service.CategoryService;
+import com.brocode.service.CollectionVersions;
+import com.brocode.service.CollectionVersions.Type;
 import com.brocode.service.dto.CategoryCreateDto;
 import com.brocode.service.dto.CategoryResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/inventory/api/categories")
 @RequiredArgsConstructor
 public class CategoryController {
     private final CategoryService service;
+    private final CollectionVersions collectionVersions;
 
     @GetMapping
     public ResponseEntity<?> getCategory(
             @RequestParam(required = false) Long id,
-            @RequestParam(defaultValue = "") String categoryName
+            @RequestParam(defaultValue = "") String categoryName,
+            WebRequest request
     ){
+        if (request.checkNotModified(collectionVersions.etag("categories", Type.CATEGORY, Type.PRODUCT))) return null;
+
         if (id != null) return ResponseEntity.ok(service.getCategory(id));
 
         if (!categoryName.isEmpty()) return ResponseEntity.ok(service.getAll().stream().filter(category -> category.name().equalsIgnoreCase(categoryName)).toList().reversed());
@@ -0,0 +1,20 @@
+package com.brocode.controller;
+
+import com.brocode.service.DashboardService;
+import com.brocode.service.dto.DashboardResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/inventory/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+    private final DashboardService service;
+
+    @GetMapping
+    public DashboardResponseDto getDashboard(){
+        return service.getDashboard();
+    }
+}
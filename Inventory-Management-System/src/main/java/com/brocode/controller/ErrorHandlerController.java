@@ -1,6 +1,10 @@
 package com.brocode.controller;
 
 import com.brocode.service.dto.ErrorResponseDto;
+import com.brocode.utils.InvalidCursorException;
+import com.brocode.utils.InvalidDateRangeException;
+import com.brocode.utils.UnknownSyncTypeException;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -16,4 +20,24 @@ public class ErrorHandlerController {
 //        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ErrorResponseDto(ex.getMessage(), 404));
 //    }
 
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<ErrorResponseDto> handleStockConflict(ConcurrencyFailureException ex){
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorResponseDto("Stock was changed by another user, please try again", 409));
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponseDto> handleInvalidCursor(InvalidCursorException ex){
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorResponseDto(ex.getMessage(), 400));
+    }
+
+    @ExceptionHandler(InvalidDateRangeException.class)
+    public ResponseEntity<ErrorResponseDto> handleInvalidDateRange(InvalidDateRangeException ex){
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorResponseDto(ex.getMessage(), 400));
+    }
+
+    @ExceptionHandler(UnknownSyncTypeException.class)
+    public ResponseEntity<ErrorResponseDto> handleUnknownSyncType(UnknownSyncTypeException ex){
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ErrorResponseDto(ex.getMessage(), 404));
+    }
+
 }
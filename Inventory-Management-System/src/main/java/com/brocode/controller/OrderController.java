@@ -1,6 +1,9 @@
 package com.brocode.controller;
 
 import com.brocode.entity.Order;
+import com.brocode.service.CheckoutService;
+import com.brocode.service.CollectionVersions;
+import com.brocode.service.CollectionVersions.Type;
 import com.brocode.service.MyOrderService;
 import com.brocode.service.dto.OrderCreateDto;
 import com.brocode.service.dto.OrderResponseDto;
@@ -8,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -18,6 +22,8 @@ import java.util.Objects;
 @RequiredArgsConstructor
 public class OrderController {
     private final MyOrderService service;
+    private final CollectionVersions collectionVersions;
+    private final CheckoutService checkoutService;
 
     @GetMapping
     public ResponseEntity<?> getCategory(
@@ -25,8 +31,11 @@ public class OrderController {
             @RequestParam(required = false) Long categoryId,
             @RequestParam(required = false)LocalDate orderDate,
             @RequestParam(required = false) Double lowerBoundaryAmount,
-            @RequestParam(required = false) Double higherBoundaryAmount
+            @RequestParam(required = false) Double higherBoundaryAmount,
+            WebRequest request
     ){
+        if (request.checkNotModified(collectionVersions.etag("orders", Type.ORDER, Type.SUPPLIER, Type.PRODUCT))) return null;
+
         if (id != null) return ResponseEntity.ok(service.getOrder(id));
 
         List<OrderResponseDto> orders = service.getAll().reversed();
@@ -53,7 +62,7 @@ public class OrderController {
     public OrderResponseDto createOrder(
             @RequestBody OrderCreateDto dto
     ){
-        return service.createOrder(dto, true);
+        return checkoutService.createOrder(dto);
     }
 
     @DeleteMapping
@@ -61,7 +70,7 @@ public class OrderController {
     public void delete(
             @RequestParam Long id
     ){
-        service.deleteOrder(id);
+        checkoutService.deleteOrder(id);
     }
 
     @DeleteMapping("/all")
@@ -76,6 +85,6 @@ public class OrderController {
             @RequestParam Long id,
             @RequestBody OrderCreateDto dto
     ){
-        return service.editOrder(id,dto);
+        return checkoutService.editOrder(id, dto);
     }
 }
@@ -1,15 +1,11 @@
 package com.brocode.controller;
 
 import com.brocode.service.OrderItemsService;
-import com.brocode.service.dto.OrderItemResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-import java.util.Objects;
-
 @RestController
 @RequestMapping("/inventory/api/items")
 @RequiredArgsConstructor
@@ -20,11 +16,9 @@ public class OrderItemController {
     public ResponseEntity<?> getOrders(
             @RequestParam(required = false) Long id
     ){
-        List<OrderItemResponseDto> orders = service.getOrders().reversed();
-
-        if (id != null) return ResponseEntity.ok(orders.stream().filter(order -> Objects.equals(order.id(), id)).toList());
+        if (id != null) return ResponseEntity.ok(service.getOrders(id));
 
-        return ResponseEntity.ok(orders);
+        return ResponseEntity.ok(service.getOrders());
     }
     
     @DeleteMapping
@@ -1,12 +1,19 @@
 package com.brocode.controller;
 
+import com.brocode.service.CollectionVersions;
+import com.brocode.service.CollectionVersions.Type;
 import com.brocode.service.ProductService;
+import com.brocode.service.dto.KeysetPage;
 import com.brocode.service.dto.ProductCreateDto;
+import com.brocode.service.dto.ProductFilterDto;
 import com.brocode.service.dto.ProductResponseDto;
+import com.brocode.service.dto.ProductSummaryDto;
+import com.brocode.service.dto.SearchPage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -15,6 +22,7 @@ import java.util.List;
 @RequestMapping("/inventory/api/products")
 public class ProductController {
     private final ProductService service;
+    private final CollectionVersions collectionVersions;
 
     @GetMapping
     public ResponseEntity<?> getProducts(
@@ -23,23 +31,47 @@ public class ProductController {
             @RequestParam(required = false) Long categoryId,
             @RequestParam(required = false) Boolean lowStock,
             @RequestParam(required = false) Double lowerBoundaryPrice,
-            @RequestParam(required = false) Double higherBoundaryPrice
+            @RequestParam(required = false) Double higherBoundaryPrice,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request
     ){
-        if (id != null) return ResponseEntity.ok(service.getProduct(id));
+        if (request.checkNotModified(collectionVersions.etag("products", Type.PRODUCT, Type.CATEGORY))) return null;
 
-        List<ProductResponseDto> products = service.getAll().reversed();
+        if (id != null) return ResponseEntity.ok(service.getProduct(id));
 
-        if (!productName.isEmpty()) products = products.stream().filter(product -> product.name().equalsIgnoreCase(productName)).toList();
+        ProductFilterDto filter = new ProductFilterDto(productName, categoryId, lowStock, lowerBoundaryPrice, higherBoundaryPrice);
+        KeysetPage<ProductResponseDto> page = service.getPage(filter, cursor, size);
 
-        if (categoryId != null) products = products.stream().filter(product -> product.categoryId().equals(categoryId)).toList();
+        if (page.nextCursor() != null) return ResponseEntity.ok().header(KeysetPage.NEXT_CURSOR_HEADER, page.nextCursor()).body(page.items());
 
-        if (lowStock != null) products = products.stream().filter(product -> product.inStock() < product.warningStockLevel()).toList();
+        return ResponseEntity.ok(page.items());
+    }
 
-        if (lowerBoundaryPrice != null) products = products.stream().filter(product -> product.price() > lowerBoundaryPrice).toList();
+    @GetMapping("/search")
+    public ResponseEntity<List<ProductSummaryDto>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size
+    ){
+        SearchPage<ProductSummaryDto> result = service.search(q, page, size);
+        return ResponseEntity.ok()
+                .header(SearchPage.TOTAL_COUNT_HEADER, String.valueOf(result.total()))
+                .body(result.items());
+    }
 
-        if (higherBoundaryPrice != null) products = products.stream().filter(product -> product.price() < higherBoundaryPrice).toList();
+    @GetMapping("/by-key/{productKey}")
+    public ProductSummaryDto getByKey(
+            @PathVariable String productKey
+    ){
+        return service.getByKey(productKey);
+    }
 
-        return ResponseEntity.ok(products);
+    @GetMapping("/by-key")
+    public List<ProductSummaryDto> getByKeys(
+            @RequestParam List<String> keys
+    ){
+        return service.getByKeys(keys);
     }
 
     @PostMapping
@@ -0,0 +1,33 @@
+package com.brocode.controller;
+
+import com.brocode.service.DailySalesRollupService;
+import com.brocode.service.dto.DailySalesResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/inventory/api/reports")
+@RequiredArgsConstructor
+public class ReportController {
+    private final DailySalesRollupService rollupService;
+
+    @GetMapping("/daily-sales")
+    public List<DailySalesResponseDto> getDailySales(
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to,
+            @RequestParam(required = false) Long productId,
+            @RequestParam(required = false) Long categoryId
+    ){
+        return rollupService.getDailySales(from, to, productId, categoryId);
+    }
+
+    @PostMapping("/daily-sales/rebuild")
+    public ResponseEntity<?> rebuildDailySales(){
+        return ResponseEntity.ok(Map.of("rows", rollupService.rebuild()));
+    }
+}
@@ -1,58 +1,51 @@
 package com.brocode.controller;
 
-import com.brocode.entity.Sale;
+import com.brocode.service.CheckoutService;
+import com.brocode.service.CollectionVersions;
+import com.brocode.service.CollectionVersions.Type;
 import com.brocode.service.SaleService;
+import com.brocode.service.dto.KeysetPage;
 import com.brocode.service.dto.SaleCreateDto;
+import com.brocode.service.dto.SaleFilterDto;
 import com.brocode.service.dto.SaleResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
-import java.util.List;
-import java.util.Objects;
 
 @RestController
 @RequestMapping("/inventory/api/sales")
 @RequiredArgsConstructor
 public class SaleController {
     private final SaleService service;
+    private final CollectionVersions collectionVersions;
+    private final CheckoutService checkoutService;
 
     @GetMapping
     public ResponseEntity<?> getSales(
             @RequestParam(required = false) Long id,
-            @RequestParam(defaultValue = "") Long categoryId,
+            @RequestParam(required = false) Long categoryId,
             @RequestParam(required = false) LocalDate saleDateStart,
             @RequestParam(required = false) LocalDate saleDateEnd,
             @RequestParam(required = false) Double lowerSalesBoundary,
-            @RequestParam(required = false) Double higherSalesBoundary
+            @RequestParam(required = false) Double higherSalesBoundary,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request
     ){
-        if (id != null) return ResponseEntity.ok(service.getSale(id));
-
-        List<SaleResponseDto> sales = service.getAll().reversed();
-
-        if (categoryId != null) sales = sales.stream().filter(sale -> filterBySaleItemCategory(service.getSaleOrThrowError(sale.id()), categoryId)).toList();
-
-        if (saleDateEnd != null && saleDateStart != null) sales = sales.stream().filter(sale -> filterByDates(sale, saleDateStart, saleDateEnd)).toList();
-
-        if (lowerSalesBoundary != null) sales = sales.stream().filter(sale -> sale.totalAmount() > lowerSalesBoundary).toList();
+        if (request.checkNotModified(collectionVersions.etag("sales", Type.SALE, Type.PRODUCT))) return null;
 
-        if (higherSalesBoundary != null) sales = sales.stream().filter(sale -> sale.totalAmount() < higherSalesBoundary).toList();
-
-        return ResponseEntity.ok(sales);
-    }
+        if (id != null) return ResponseEntity.ok(service.getSale(id));
 
-    private boolean filterBySaleItemCategory(Sale sale, Long categoryId) {
-        return sale.getItems().stream()
-                .anyMatch(item -> Objects.equals(item.getProduct().getCategory().getId(), categoryId));
-    }
+        SaleFilterDto filter = new SaleFilterDto(categoryId, saleDateStart, saleDateEnd, lowerSalesBoundary, higherSalesBoundary);
+        KeysetPage<SaleResponseDto> page = service.getPage(filter, cursor, size);
 
-    private boolean filterByDates(SaleResponseDto sale, LocalDate lowerDate, LocalDate higherDate){
-        boolean IS_AFTER_LOWER_DATE = sale.saleDate().isAfter(lowerDate);
-        boolean IS_AFTER_HIGHER_DATE = sale.saleDate().isBefore(higherDate);
+        if (page.nextCursor() != null) return ResponseEntity.ok().header(KeysetPage.NEXT_CURSOR_HEADER, page.nextCursor()).body(page.items());
 
-        return IS_AFTER_HIGHER_DATE && IS_AFTER_LOWER_DATE;
+        return ResponseEntity.ok(page.items());
     }
 
     @PostMapping
@@ -60,7 +53,7 @@ public class SaleController {
     public SaleResponseDto createSale(
             @RequestBody SaleCreateDto dto
     ){
-        return service.createSale(dto);
+        return checkoutService.createSale(dto);
     }
 
     @DeleteMapping
@@ -68,7 +61,7 @@ public class SaleController {
     public void deleteSale(
             @RequestParam Long id
     ){
-        service.delete(id);
+        checkoutService.deleteSale(id);
     }
 
     @PutMapping
@@ -77,7 +70,7 @@ public class SaleController {
             @RequestParam Long id,
             @RequestBody SaleCreateDto dto
     ){
-        return service.editSale(id, dto);
+        return checkoutService.editSale(id, dto);
     }
 
     @DeleteMapping("/all")
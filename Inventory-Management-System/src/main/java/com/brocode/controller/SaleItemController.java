@@ -1,15 +1,11 @@
 package com.brocode.controller;
 
 import com.brocode.service.SaleItemsService;
-import com.brocode.service.dto.SaleItemResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-import java.util.Objects;
-
 @RestController
 @RequestMapping("/inventory/api/sales/items")
 @RequiredArgsConstructor
@@ -22,15 +18,13 @@ public class SaleItemController {
             @RequestParam(required = false) Long batchId,
             @RequestParam(required = false) Long productId
     ){
-        List<SaleItemResponseDto> sales = service.getSaleItems().reversed();
-
-        if (id != null) return ResponseEntity.ok(sales.stream().filter(sale -> Objects.equals(sale.id(), id)).toList());
+        if (id != null) return ResponseEntity.ok(service.getSaleItems(id));
 
-        if (batchId != null) return ResponseEntity.ok(sales.stream().filter(sale -> Objects.equals(sale.batchId(), batchId)).toList());
+        if (batchId != null) return ResponseEntity.ok(service.getBatchSaleItems(batchId));
 
-        if (productId != null) return ResponseEntity.ok(sales.stream().filter(sale -> Objects.equals(sale.productId(), productId)).toList());
+        if (productId != null) return ResponseEntity.ok(service.getProductSaleItems(productId));
 
-        return ResponseEntity.ok(sales);
+        return ResponseEntity.ok(service.getSaleItems());
     }
 
     @DeleteMapping
@@ -0,0 +1,21 @@
+package com.brocode.controller;
+
+import com.brocode.service.StockStreamService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/inventory/api/stock")
+@RequiredArgsConstructor
+public class StockStreamController {
+    private final StockStreamService service;
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStock(){
+        return service.subscribe();
+    }
+}
@@ -1,5 +1,7 @@
 package com.brocode.controller;
 
+import com.brocode.service.CollectionVersions;
+import com.brocode.service.CollectionVersions.Type;
 import com.brocode.service.SupplierService;
 import com.brocode.service.dto.SupplierCreateDto;
 import com.brocode.service.dto.SupplierResponseDto;
@@ -7,17 +9,22 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/inventory/api/suppliers")
 public class SupplierController {
     private final SupplierService service;
+    private final CollectionVersions collectionVersions;
 
     @GetMapping
     public ResponseEntity<?> getSupplier(
-            @RequestParam(required = false) Long id
+            @RequestParam(required = false) Long id,
+            WebRequest request
     ){
+        if (request.checkNotModified(collectionVersions.etag("suppliers", Type.SUPPLIER, Type.ORDER, Type.PRODUCT))) return null;
+
         if (id != null) return ResponseEntity.ok(service.getSupplier(id));
 
         return ResponseEntity.ok(service.getAll().reversed());
@@ -0,0 +1,22 @@
+package com.brocode.controller;
+
+import com.brocode.service.SyncService;
+import com.brocode.service.dto.SyncResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/inventory/api/sync")
+@RequiredArgsConstructor
+public class SyncController {
+    private final SyncService service;
+
+    @GetMapping("/{type}")
+    public SyncResponseDto sync(
+            @PathVariable String type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ){
+        return service.sync(type, cursor, size);
+    }
+}
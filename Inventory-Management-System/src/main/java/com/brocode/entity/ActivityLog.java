@@ -2,11 +2,16 @@ package com.brocode.entity;
 
 import com.brocode.utils.Activity;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
 @Data
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_activity_log_created", columnList = "createdAt, activity, createdBy")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @SuperBuilder
@@ -1,5 +1,7 @@
 package com.brocode.entity;
 
+import com.brocode.service.CollectionVersionListener;
+import com.brocode.service.TombstoneListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -14,6 +16,7 @@ import java.time.ZoneId;
 @Data
 @SuperBuilder
 @MappedSuperclass
+@EntityListeners({CollectionVersionListener.class, TombstoneListener.class})
 @NoArgsConstructor
 @AllArgsConstructor
 public class BaseEntity {
@@ -12,6 +12,10 @@ import java.util.List;
 
 @Data
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_batch_product_stock", columnList = "product_id, stockLeft"),
+        @Index(name = "idx_batch_last_modified", columnList = "lastModifiedAt, id")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @SuperBuilder
@@ -33,4 +37,8 @@ public class Batch extends BaseEntity{
 
     private Double stockLeft;
 
+    @Version
+    @Column(columnDefinition = "bigint default 0")
+    private Long version;
+
 }
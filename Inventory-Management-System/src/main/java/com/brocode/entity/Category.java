@@ -6,12 +6,19 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "category")
+@Table(indexes = {
+        @Index(name = "idx_category_last_modified", columnList = "lastModifiedAt, id")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @SuperBuilder
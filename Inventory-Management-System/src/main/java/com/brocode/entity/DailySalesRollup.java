@@ -0,0 +1,35 @@
+package com.brocode.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Sold quantity, revenue and FIFO cost per day and product, kept up to date by the sale services.
+ * The product is held by id so the history outlives it. The category is not stored but joined from
+ * the product when reading, so moving a product to another category moves its history with it.
+ */
+@Data
+@Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_daily_sales_rollup_day_product", columnNames = {"saleDate", "productId"})
+})
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DailySalesRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private LocalDate saleDate;
+    private Long productId;
+
+    private Double quantity;
+    private Double revenue;
+    private Double cost;
+}
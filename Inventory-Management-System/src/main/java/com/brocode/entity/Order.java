@@ -12,6 +12,9 @@ import java.util.List;
 
 @Data
 @Entity(name = "tbl_order")
+@Table(indexes = {
+        @Index(name = "idx_order_last_modified", columnList = "lastModifiedAt, id")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @SuperBuilder
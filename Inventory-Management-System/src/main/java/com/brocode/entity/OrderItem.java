@@ -9,6 +9,9 @@ import lombok.experimental.SuperBuilder;
 
 @Data
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_order_item_last_modified", columnList = "lastModifiedAt, id")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @SuperBuilder
@@ -1,5 +1,6 @@
 package com.brocode.entity;
 
+import com.brocode.service.ProductKeyListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -9,6 +10,12 @@ import lombok.experimental.SuperBuilder;
 
 @Data
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_product_price", columnList = "price"),
+        @Index(name = "idx_product_last_modified", columnList = "lastModifiedAt, id"),
+        @Index(name = "uk_product_product_key", columnList = "productKey", unique = true)
+})
+@EntityListeners(ProductKeyListener.class)
 @AllArgsConstructor
 @NoArgsConstructor
 @SuperBuilder
@@ -27,4 +34,8 @@ public class Product extends BaseEntity{
 
     private Double inStock;
     private String unit;
+
+    @Version
+    @Column(columnDefinition = "bigint default 0")
+    private Long version;
 }
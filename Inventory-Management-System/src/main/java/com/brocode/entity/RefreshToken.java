@@ -0,0 +1,43 @@
+package com.brocode.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Opaque refresh token handed out next to an access token. Only the SHA-256 of the token is kept.
+ * Tokens that replaced one another share a family, so replaying a rotated token revokes the chain.
+ */
+@Data
+@Entity
+@Table(indexes = {
+        @Index(name = "uk_refresh_token_hash", columnList = "tokenHash", unique = true),
+        @Index(name = "idx_refresh_token_username", columnList = "username"),
+        @Index(name = "idx_refresh_token_family", columnList = "family")
+})
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RefreshToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String tokenHash;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Column(nullable = false)
+    private String family;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    private Instant rotatedAt;
+}
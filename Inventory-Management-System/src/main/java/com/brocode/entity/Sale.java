@@ -1,8 +1,6 @@
 package com.brocode.entity;
 
-import jakarta.persistence.CascadeType;
-import jakarta.persistence.Entity;
-import jakarta.persistence.OneToMany;
+import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -14,6 +12,11 @@ import java.util.List;
 
 @Data
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_sale_sale_date", columnList = "saleDate"),
+        @Index(name = "idx_sale_total_amount", columnList = "totalAmount"),
+        @Index(name = "idx_sale_last_modified", columnList = "lastModifiedAt, id")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @SuperBuilder
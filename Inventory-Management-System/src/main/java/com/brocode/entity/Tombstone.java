@@ -0,0 +1,30 @@
+package com.brocode.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Id of a deleted row, kept so sync clients can drop it from their replica.
+ */
+@Data
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_tombstone_type_deleted", columnList = "entityType, deletedAt, id")
+})
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class Tombstone {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String entityType;
+    private Long entityId;
+    private LocalDateTime deletedAt;
+}
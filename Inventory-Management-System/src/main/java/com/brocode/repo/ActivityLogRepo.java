@@ -2,10 +2,11 @@ package com.brocode.repo;
 
 import com.brocode.entity.ActivityLog;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
 import java.util.List;
 
-public interface ActivityLogRepo extends JpaRepository<ActivityLog, Long> {
+public interface ActivityLogRepo extends JpaRepository<ActivityLog, Long>, JpaSpecificationExecutor<ActivityLog> {
     List<ActivityLog> findAllByCreatedBy(String createdBy);
 
 }
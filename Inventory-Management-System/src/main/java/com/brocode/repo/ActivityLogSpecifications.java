@@ -0,0 +1,58 @@
+package com.brocode.repo;
+
+import com.brocode.entity.ActivityLog;
+import com.brocode.service.dto.ActivityLogFilterDto;
+import com.brocode.utils.Activity;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ActivityLogSpecifications {
+
+    public static Specification<ActivityLog> matching(ActivityLogFilterDto filter, Long beforeId){
+        List<Specification<ActivityLog>> specs = new ArrayList<>();
+
+        if (beforeId != null) specs.add(idBefore(beforeId));
+
+        if (filter.hiddenUser() != null) specs.add(notCreatedBy(filter.hiddenUser()));
+
+        if (filter.activity() != null) specs.add(hasActivity(filter.activity()));
+
+        if (filter.createdBy() != null && !filter.createdBy().isEmpty()) specs.add(createdByIgnoreCase(filter.createdBy()));
+
+        if (filter.dateCreated() != null) specs.add(createdOn(filter.dateCreated()));
+
+        return Specification.allOf(specs);
+    }
+
+    public static Specification<ActivityLog> idBefore(Long id){
+        return (root, query, cb) -> cb.lessThan(root.get("id"), id);
+    }
+
+    public static Specification<ActivityLog> notCreatedBy(String username){
+        return (root, query, cb) -> cb.or(
+                cb.isNull(root.get("createdBy")),
+                cb.notEqual(root.get("createdBy"), username)
+        );
+    }
+
+    public static Specification<ActivityLog> hasActivity(Activity activity){
+        return (root, query, cb) -> cb.equal(root.get("activity"), activity);
+    }
+
+    public static Specification<ActivityLog> createdByIgnoreCase(String username){
+        return (root, query, cb) -> cb.equal(cb.lower(root.get("createdBy")), username.toLowerCase());
+    }
+
+    /**
+     * Half open range on createdAt so the (createdAt, activity, createdBy) index can be used.
+     */
+    public static Specification<ActivityLog> createdOn(LocalDate date){
+        return (root, query, cb) -> cb.and(
+                cb.greaterThanOrEqualTo(root.get("createdAt"), date.atStartOfDay()),
+                cb.lessThan(root.get("createdAt"), date.plusDays(1).atStartOfDay())
+        );
+    }
+}
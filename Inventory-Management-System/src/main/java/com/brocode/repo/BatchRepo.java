@@ -1,7 +1,24 @@
 package com.brocode.repo;
 
 import com.brocode.entity.Batch;
+import com.brocode.service.dto.OpenBatchDto;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 public interface BatchRepo extends JpaRepository<Batch, Long> {
+
+    @EntityGraph(attributePaths = {"product", "order", "sales"})
+    List<Batch> findAllWithSalesBy();
+
+    @Transactional(readOnly = true)
+    @Query("select new com.brocode.service.dto.OpenBatchDto(b.id, b.product.id, b.stockLeft) from Batch b where b.stockLeft > 0")
+    List<OpenBatchDto> findAllOpen();
+
+    @Transactional(readOnly = true)
+    @Query("select new com.brocode.service.dto.OpenBatchDto(b.id, b.product.id, b.stockLeft) from Batch b where b.product.id = :productId and b.stockLeft > 0")
+    List<OpenBatchDto> findOpenByProductId(Long productId);
 }
@@ -1,7 +1,17 @@
 package com.brocode.repo;
 
 import com.brocode.entity.Category;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+import java.util.Optional;
+
 public interface CategoryRepo extends JpaRepository<Category, Long> {
+
+    @EntityGraph(attributePaths = {"products"})
+    List<Category> findAllWithProductsBy();
+
+    @EntityGraph(attributePaths = {"products"})
+    Optional<Category> findWithProductsById(Long id);
 }
@@ -0,0 +1,45 @@
+package com.brocode.repo;
+
+import com.brocode.entity.DailySalesRollup;
+import com.brocode.service.dto.DailySalesResponseDto;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailySalesRollupRepo extends JpaRepository<DailySalesRollup, Long> {
+
+    @Modifying
+    @Query("""
+            update DailySalesRollup r
+            set r.quantity = r.quantity + :quantity, r.revenue = r.revenue + :revenue, r.cost = r.cost + :cost
+            where r.saleDate = :saleDate and r.productId = :productId
+            """)
+    int increment(LocalDate saleDate, Long productId, double quantity, double revenue, double cost);
+
+    @Modifying
+    @Query("delete from DailySalesRollup r where r.saleDate = :saleDate and r.productId = :productId and abs(r.quantity) < 1e-9")
+    int deleteIfEmpty(LocalDate saleDate, Long productId);
+
+    @Modifying
+    @Query("""
+            insert into DailySalesRollup (saleDate, productId, quantity, revenue, cost)
+            select s.saleDate, i.product.id, sum(i.amount), sum(i.amount * i.salePrice), sum(i.amount * coalesce(b.orderPrice, 0))
+            from SaleItem i join i.sale s left join i.batch b
+            group by s.saleDate, i.product.id
+            """)
+    int rebuild();
+
+    @Query("""
+            select new com.brocode.service.dto.DailySalesResponseDto(r.saleDate, sum(r.quantity), sum(r.revenue), sum(r.cost))
+            from DailySalesRollup r left join Product p on p.id = r.productId left join p.category c
+            where r.saleDate between :from and :to
+            and (:productId is null or r.productId = :productId)
+            and (:categoryId is null or coalesce(c.id, 0) = :categoryId)
+            group by r.saleDate
+            order by r.saleDate
+            """)
+    List<DailySalesResponseDto> findDailySales(LocalDate from, LocalDate to, Long productId, Long categoryId);
+}
@@ -1,7 +1,31 @@
 package com.brocode.repo;
 
 import com.brocode.entity.OrderItem;
+import com.brocode.service.dto.OrderItemResponseDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 public interface OrderItemRepo extends JpaRepository<OrderItem, Long> {
+    String RESPONSE_PROJECTION = """
+            select new com.brocode.service.dto.OrderItemResponseDto(
+                i.id, p.id, o.id, p.name, i.amount, i.orderPrice,
+                i.createdAt, i.lastModifiedAt, i.createdBy, i.lastModifiedBy
+            )
+            from OrderItem i join i.product p join i.order o
+            """;
+
+    @Transactional(readOnly = true)
+    @Query(RESPONSE_PROJECTION + " order by i.id desc")
+    List<OrderItemResponseDto> findAllResponses();
+
+    @Transactional(readOnly = true)
+    @Query(RESPONSE_PROJECTION + " where i.id = :id")
+    List<OrderItemResponseDto> findResponsesById(Long id);
+
+    @Transactional(readOnly = true)
+    @Query("select distinct i.product.id from OrderItem i where i.order.id = :orderId")
+    List<Long> findProductIdsByOrderId(Long orderId);
 }
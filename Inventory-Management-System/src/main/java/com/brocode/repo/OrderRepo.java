@@ -1,7 +1,20 @@
 package com.brocode.repo;
 
 import com.brocode.entity.Order;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+import java.util.Optional;
+
 public interface OrderRepo extends JpaRepository<Order, Long> {
+
+    @EntityGraph(attributePaths = {"supplier", "items", "items.product"})
+    List<Order> findAllWithItemsBy();
+
+    @EntityGraph(attributePaths = {"supplier", "items", "items.product"})
+    Optional<Order> findWithItemsById(Long id);
+
+    @EntityGraph(attributePaths = {"supplier"})
+    List<Order> findTop5ByOrderByOrderDateDescIdDesc();
 }
@@ -0,0 +1,16 @@
+package com.brocode.repo;
+
+import com.brocode.entity.Product;
+import com.brocode.service.dto.ProductResponseDto;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface ProductQueryRepo {
+
+    /**
+     * Selects the matching products newest first straight into {@link ProductResponseDto},
+     * without loading Product or Category entities into the persistence context.
+     */
+    List<ProductResponseDto> findResponses(Specification<Product> spec, int limit);
+}
@@ -0,0 +1,59 @@
+package com.brocode.repo;
+
+import com.brocode.entity.Category;
+import com.brocode.entity.Product;
+import com.brocode.service.dto.ProductResponseDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ProductQueryRepoImpl implements ProductQueryRepo {
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductResponseDto> findResponses(Specification<Product> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProductResponseDto> query = cb.createQuery(ProductResponseDto.class);
+
+        Root<Product> product = query.from(Product.class);
+        Join<Product, Category> category = product.join("category");
+
+        query.select(cb.construct(ProductResponseDto.class,
+                        product.get("id"),
+                        category.get("id"),
+                        category.get("name"),
+                        product.get("productKey"),
+                        product.get("name"),
+                        product.get("description"),
+                        product.get("price"),
+                        product.get("inStock"),
+                        product.get("warningStockLevel"),
+                        cb.<Boolean>selectCase()
+                                .when(cb.greaterThanOrEqualTo(product.get("warningStockLevel"), product.get("inStock")), true)
+                                .otherwise(false),
+                        product.get("unit"),
+                        product.get("createdAt"),
+                        product.get("lastModifiedAt"),
+                        product.get("createdBy"),
+                        product.get("lastModifiedBy")
+                ))
+                .orderBy(cb.desc(product.get("id")));
+
+        Predicate predicate = spec.toPredicate(product, query, cb);
+        if (predicate != null) query.where(predicate);
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
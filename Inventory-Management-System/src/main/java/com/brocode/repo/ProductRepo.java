@@ -1,7 +1,24 @@
 package com.brocode.repo;
 
 import com.brocode.entity.Product;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
-public interface ProductRepo extends JpaRepository<Product, Long> {
+import java.util.List;
+import java.util.Optional;
+
+public interface ProductRepo extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product>, ProductQueryRepo {
+
+    Optional<Product> findByProductKey(String productKey);
+
+    @EntityGraph(attributePaths = {"category"})
+    List<Product> findAllWithCategoryBy();
+
+    @Query("select count(p) from Product p where p.warningStockLevel >= p.inStock")
+    long countLowStock();
+
+    @Query("select coalesce(sum(p.price * p.inStock), 0) from Product p")
+    double sumInventoryValue();
 }
@@ -0,0 +1,55 @@
+package com.brocode.repo;
+
+import com.brocode.entity.Product;
+import com.brocode.service.dto.ProductFilterDto;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ProductSpecifications {
+
+    public static Specification<Product> matching(ProductFilterDto filter, Long beforeId){
+        List<Specification<Product>> specs = new ArrayList<>();
+
+        if (beforeId != null) specs.add(idBefore(beforeId));
+
+        if (filter.productName() != null && !filter.productName().isEmpty()) specs.add(nameEqualsIgnoreCase(filter.productName()));
+
+        if (filter.categoryId() != null) specs.add(inCategory(filter.categoryId()));
+
+        if (filter.lowStock() != null) specs.add(lowStock(filter.lowStock()));
+
+        if (filter.lowerBoundaryPrice() != null) specs.add(priceAbove(filter.lowerBoundaryPrice()));
+
+        if (filter.higherBoundaryPrice() != null) specs.add(priceBelow(filter.higherBoundaryPrice()));
+
+        return Specification.allOf(specs);
+    }
+
+    public static Specification<Product> idBefore(Long id){
+        return (root, query, cb) -> cb.lessThan(root.get("id"), id);
+    }
+
+    public static Specification<Product> nameEqualsIgnoreCase(String name){
+        return (root, query, cb) -> cb.equal(cb.lower(root.get("name")), name.toLowerCase());
+    }
+
+    public static Specification<Product> inCategory(Long categoryId){
+        return (root, query, cb) -> cb.equal(root.get("category").get("id"), categoryId);
+    }
+
+    public static Specification<Product> lowStock(boolean low){
+        return (root, query, cb) -> low
+                ? cb.greaterThanOrEqualTo(root.get("warningStockLevel"), root.get("inStock"))
+                : cb.lessThan(root.get("warningStockLevel"), root.get("inStock"));
+    }
+
+    public static Specification<Product> priceAbove(Double price){
+        return (root, query, cb) -> cb.greaterThan(root.get("price"), price);
+    }
+
+    public static Specification<Product> priceBelow(Double price){
+        return (root, query, cb) -> cb.lessThan(root.get("price"), price);
+    }
+}
@@ -0,0 +1,29 @@
+package com.brocode.repo;
+
+import com.brocode.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface RefreshTokenRepo extends JpaRepository<RefreshToken, Long> {
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    @Modifying
+    @Query("update RefreshToken t set t.rotatedAt = :now where t.id = :id and t.rotatedAt is null")
+    int markRotated(Long id, Instant now);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.family = :family")
+    int deleteByFamily(String family);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.username = :username")
+    int deleteByUsername(String username);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.username = :username and t.expiresAt < :now")
+    int deleteExpired(String username, Instant now);
+}
@@ -1,7 +1,39 @@
 package com.brocode.repo;
 
 import com.brocode.entity.SaleItem;
+import com.brocode.service.dto.SaleItemResponseDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 public interface SaleItemRepo extends JpaRepository<SaleItem, Long> {
+    String RESPONSE_PROJECTION = """
+            select new com.brocode.service.dto.SaleItemResponseDto(
+                i.id, p.id, b.id, s.id, p.name, i.amount, i.salePrice,
+                i.createdAt, i.lastModifiedAt, i.createdBy, i.lastModifiedBy
+            )
+            from SaleItem i join i.product p join i.batch b join i.sale s
+            """;
+
+    @Transactional(readOnly = true)
+    @Query(RESPONSE_PROJECTION + " order by i.id desc")
+    List<SaleItemResponseDto> findAllResponses();
+
+    @Transactional(readOnly = true)
+    @Query(RESPONSE_PROJECTION + " where i.id = :id")
+    List<SaleItemResponseDto> findResponsesById(Long id);
+
+    @Transactional(readOnly = true)
+    @Query(RESPONSE_PROJECTION + " where b.id = :batchId order by i.id desc")
+    List<SaleItemResponseDto> findResponsesByBatchId(Long batchId);
+
+    @Transactional(readOnly = true)
+    @Query(RESPONSE_PROJECTION + " where p.id = :productId order by i.id desc")
+    List<SaleItemResponseDto> findResponsesByProductId(Long productId);
+
+    @Transactional(readOnly = true)
+    @Query("select distinct i.product.id from SaleItem i where i.sale.id = :saleId")
+    List<Long> findProductIdsBySaleId(Long saleId);
 }
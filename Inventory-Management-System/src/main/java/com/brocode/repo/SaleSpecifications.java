@@ -0,0 +1,71 @@
+package com.brocode.repo;
+
+import com.brocode.entity.Sale;
+import com.brocode.entity.SaleItem;
+import com.brocode.service.dto.SaleFilterDto;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SaleSpecifications {
+
+    public static Specification<Sale> matching(SaleFilterDto filter, Long beforeId){
+        List<Specification<Sale>> specs = new ArrayList<>();
+
+        if (beforeId != null) specs.add(idBefore(beforeId));
+
+        if (filter.saleDateStart() != null) specs.add(soldAfter(filter.saleDateStart()));
+
+        if (filter.saleDateEnd() != null) specs.add(soldBefore(filter.saleDateEnd()));
+
+        if (filter.lowerSalesBoundary() != null) specs.add(totalAbove(filter.lowerSalesBoundary()));
+
+        if (filter.higherSalesBoundary() != null) specs.add(totalBelow(filter.higherSalesBoundary()));
+
+        if (filter.categoryId() != null) specs.add(hasItemInCategory(filter.categoryId()));
+
+        return Specification.allOf(specs);
+    }
+
+    public static Specification<Sale> idBefore(Long id){
+        return (root, query, cb) -> cb.lessThan(root.get("id"), id);
+    }
+
+    public static Specification<Sale> soldAfter(LocalDate date){
+        return (root, query, cb) -> cb.greaterThan(root.get("saleDate"), date);
+    }
+
+    public static Specification<Sale> soldBefore(LocalDate date){
+        return (root, query, cb) -> cb.lessThan(root.get("saleDate"), date);
+    }
+
+    public static Specification<Sale> totalAbove(Double amount){
+        return (root, query, cb) -> cb.greaterThan(root.get("totalAmount"), amount);
+    }
+
+    public static Specification<Sale> totalBelow(Double amount){
+        return (root, query, cb) -> cb.lessThan(root.get("totalAmount"), amount);
+    }
+
+    /**
+     * EXISTS (select 1 from SaleItem item where item.sale = sale and item.product.category.id = :categoryId)
+     */
+    public static Specification<Sale> hasItemInCategory(Long categoryId){
+        return (root, query, cb) -> {
+            Subquery<Long> items = query.subquery(Long.class);
+            Root<SaleItem> item = items.from(SaleItem.class);
+
+            items.select(item.get("id"))
+                    .where(
+                            cb.equal(item.get("sale"), root),
+                            cb.equal(item.get("product").get("category").get("id"), categoryId)
+                    );
+
+            return cb.exists(items);
+        };
+    }
+}
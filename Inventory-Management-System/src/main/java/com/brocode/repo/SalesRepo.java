@@ -1,7 +1,25 @@
 package com.brocode.repo;
 
 import com.brocode.entity.Sale;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
-public interface SalesRepo extends JpaRepository<Sale, Long> {
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface SalesRepo extends JpaRepository<Sale, Long>, JpaSpecificationExecutor<Sale> {
+
+    @EntityGraph(attributePaths = {"items", "items.product"})
+    Optional<Sale> findWithItemsById(Long id);
+
+    List<Sale> findTop5ByOrderBySaleDateDescIdDesc();
+
+    @Query("select coalesce(sum(s.totalAmount), 0) from Sale s")
+    double sumTotalAmount();
+
+    @Query("select coalesce(sum(s.totalAmount), 0) from Sale s where s.saleDate = :saleDate")
+    double sumTotalAmountOn(LocalDate saleDate);
 }
@@ -1,7 +1,17 @@
 package com.brocode.repo;
 
 import com.brocode.entity.Supplier;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+import java.util.Optional;
+
 public interface SupplierRepo extends JpaRepository<Supplier, Long> {
+
+    @EntityGraph(attributePaths = {"orders"})
+    List<Supplier> findAllWithOrdersBy();
+
+    @EntityGraph(attributePaths = {"orders"})
+    Optional<Supplier> findWithOrdersById(Long id);
 }
@@ -0,0 +1,36 @@
+package com.brocode.repo;
+
+import com.brocode.entity.BaseEntity;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class SyncQueryRepo {
+    private final EntityManager entityManager;
+
+    /**
+     * Rows of the type modified after (after, afterId) and no later than upTo, in (lastModifiedAt, id) order.
+     */
+    @Transactional(readOnly = true)
+    public <T extends BaseEntity> List<T> findChanged(Class<T> type, LocalDateTime after, Long afterId, LocalDateTime upTo, int limit){
+        String entityName = entityManager.getMetamodel().entity(type).getName();
+
+        return entityManager.createQuery("""
+                        select e from %s e
+                        where (e.lastModifiedAt > :after or (e.lastModifiedAt = :after and e.id > :afterId))
+                        and e.lastModifiedAt <= :upTo
+                        order by e.lastModifiedAt, e.id
+                        """.formatted(entityName), type)
+                .setParameter("after", after)
+                .setParameter("afterId", afterId)
+                .setParameter("upTo", upTo)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,21 @@
+package com.brocode.repo;
+
+import com.brocode.entity.Tombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TombstoneRepo extends JpaRepository<Tombstone, Long> {
+
+    @Query("""
+            select t from Tombstone t
+            where t.entityType = :entityType
+            and (t.deletedAt > :after or (t.deletedAt = :after and t.id > :afterId))
+            and t.deletedAt <= :upTo
+            order by t.deletedAt, t.id
+            """)
+    List<Tombstone> findDeleted(String entityType, LocalDateTime after, Long afterId, LocalDateTime upTo, Limit limit);
+}
@@ -0,0 +1,13 @@
+package com.brocode.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("inventory.auth-cache")
+public record AuthCacheProperties(
+        long maximumSize,
+        Duration userTtl,
+        Duration credentialTtl
+) {
+}
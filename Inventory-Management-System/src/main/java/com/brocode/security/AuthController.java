@@ -3,8 +3,11 @@ package com.brocode.security;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -18,8 +21,15 @@ public class AuthController {
     @PostMapping("/token")
     public TokenResponseDto token(Authentication authentication) {
         LOGGER.debug("Token requested for user: {}", authentication.getName());
-        String token = tokenService.generateToken(authentication);
-        LOGGER.debug("Token granted {}", token);
-        return new TokenResponseDto(token);
+        TokenResponseDto token = tokenService.generateToken(authentication);
+        LOGGER.debug("Token granted {}", token.token());
+        return token;
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponseDto> refresh(@RequestBody RefreshRequestDto dto) {
+        return tokenService.refresh(dto.refreshToken())
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
     }
 }
@@ -0,0 +1,94 @@
+package com.brocode.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+
+/**
+ * Loaded users and the last password each user signed in with, so repeat basic-auth requests skip
+ * the user query and the BCrypt check. A password is only kept as an HMAC under a key made at boot,
+ * taken over the cached user's stored hash as well, so replacing the cached user invalidates it.
+ * {@link #evict} drops both entries of a user, which covers password changes made on this node.
+ * A change made on another node is not seen here: the cached user still carries the old hash, so
+ * the old password keeps working until that user entry expires after user-ttl.
+ */
+@Component
+public class AuthenticationCache implements UserCache {
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final Cache<String, UserDetails> users;
+    private final Cache<String, byte[]> credentials;
+    private final SecretKeySpec key;
+
+    public AuthenticationCache(AuthCacheProperties properties, MeterRegistry meterRegistry){
+        this.users = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.userTtl())
+                .recordStats()
+                .build();
+        this.credentials = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.credentialTtl())
+                .recordStats()
+                .build();
+
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "users");
+        CaffeineCacheMetrics.monitor(meterRegistry, credentials, "credentials");
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username){
+        return users.getIfPresent(username);
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user){
+        users.put(user.getUsername(), user);
+    }
+
+    @Override
+    public void removeUserFromCache(String username){
+        users.invalidate(username);
+    }
+
+    public boolean isVerified(UserDetails user, String presentedPassword){
+        byte[] known = credentials.getIfPresent(user.getUsername());
+        return known != null && MessageDigest.isEqual(known, mac(user, presentedPassword));
+    }
+
+    public void verified(UserDetails user, String presentedPassword){
+        credentials.put(user.getUsername(), mac(user, presentedPassword));
+    }
+
+    public void evict(String username){
+        users.invalidate(username);
+        credentials.invalidate(username);
+    }
+
+    private byte[] mac(UserDetails user, String presentedPassword){
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            mac.update(user.getPassword().getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(presentedPassword.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.brocode.security;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Username and password authentication that reuses a recent successful password check. Users come
+ * from the cache first, a failed check on a cached user is retried against the database by the
+ * parent class.
+ */
+public class CachingDaoAuthenticationProvider extends DaoAuthenticationProvider {
+    private final AuthenticationCache authenticationCache;
+
+    public CachingDaoAuthenticationProvider(UserDetailsService userDetailsService, PasswordEncoder passwordEncoder, AuthenticationCache authenticationCache){
+        super(userDetailsService);
+        this.authenticationCache = authenticationCache;
+        setPasswordEncoder(passwordEncoder);
+        setUserCache(authenticationCache);
+    }
+
+    @Override
+    protected void additionalAuthenticationChecks(UserDetails userDetails, UsernamePasswordAuthenticationToken authentication) throws AuthenticationException {
+        if (authentication.getCredentials() == null) {
+            super.additionalAuthenticationChecks(userDetails, authentication);
+            return;
+        }
+
+        String presentedPassword = authentication.getCredentials().toString();
+        if (authenticationCache.isVerified(userDetails, presentedPassword)) return;
+
+        super.additionalAuthenticationChecks(userDetails, authentication);
+        authenticationCache.verified(userDetails, presentedPassword);
+    }
+}
@@ -0,0 +1,69 @@
+package com.brocode.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Remembers tokens that already passed signature and claim checks, keyed by the SHA-256 of the
+ * token so the cache never holds a usable credential. An entry lives until the token's exp, a
+ * changed token hashes differently and is verified in full. Hit rates are published as the
+ * "jwt" cache metrics.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+    private final JwtDecoder delegate;
+    private final Cache<String, Jwt> verified;
+
+    public CachingJwtDecoder(JwtDecoder delegate, JwtCacheProperties properties, MeterRegistry meterRegistry){
+        this.delegate = delegate;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfter(Expiry.creating((String hash, Jwt jwt) -> untilExpiry(jwt)))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, "jwt");
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String hash = hash(token);
+
+        Jwt jwt = verified.getIfPresent(hash);
+        if (jwt != null && isLive(jwt)) return jwt;
+
+        jwt = delegate.decode(token);
+        if (jwt.getExpiresAt() != null) verified.put(hash, jwt);
+        return jwt;
+    }
+
+    private static boolean isLive(Jwt jwt){
+        return jwt.getExpiresAt() != null && Instant.now().isBefore(jwt.getExpiresAt());
+    }
+
+    private static Duration untilExpiry(Jwt jwt){
+        Duration remaining = Duration.between(Instant.now(), jwt.getExpiresAt());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    private static String hash(String token){
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.brocode.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("inventory.jwt-cache")
+public record JwtCacheProperties(
+        long maximumSize
+) {
+}
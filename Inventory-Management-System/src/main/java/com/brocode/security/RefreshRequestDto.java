@@ -0,0 +1,6 @@
+package com.brocode.security;
+
+public record RefreshRequestDto(
+        String refreshToken
+) {
+}
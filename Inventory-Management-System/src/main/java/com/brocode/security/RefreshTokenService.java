@@ -0,0 +1,90 @@
+package com.brocode.security;
+
+import com.brocode.entity.RefreshToken;
+import com.brocode.repo.RefreshTokenRepo;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Issues and rotates refresh tokens. A token is 256 random bits and is looked up by its SHA-256,
+ * so checking one is a single index read with no BCrypt involved. Every refresh spends the token
+ * it was given; presenting a spent token again revokes its whole family.
+ */
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final RefreshTokenRepo repo;
+    private final TokenProperties properties;
+    private final SecureRandom random = new SecureRandom();
+
+    public record Rotation(String username, String token) {
+    }
+
+    @Transactional
+    public String issue(String username){
+        Instant now = Instant.now();
+        repo.deleteExpired(username, now);
+        return create(username, UUID.randomUUID().toString(), now);
+    }
+
+    @Transactional
+    public Optional<Rotation> rotate(String token){
+        if (token == null || token.isBlank()) return Optional.empty();
+
+        Optional<RefreshToken> found = repo.findByTokenHash(hash(token));
+        if (found.isEmpty()) return Optional.empty();
+
+        RefreshToken refreshToken = found.get();
+        Instant now = Instant.now();
+
+        if (!refreshToken.getExpiresAt().isAfter(now)) return Optional.empty();
+
+        if (repo.markRotated(refreshToken.getId(), now) == 0){
+            repo.deleteByFamily(refreshToken.getFamily());
+            return Optional.empty();
+        }
+
+        String next = create(refreshToken.getUsername(), refreshToken.getFamily(), now);
+        return Optional.of(new Rotation(refreshToken.getUsername(), next));
+    }
+
+    @Transactional
+    public void revokeAll(String username){
+        repo.deleteByUsername(username);
+    }
+
+    private String create(String username, String family, Instant now){
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String token = ENCODER.encodeToString(bytes);
+
+        repo.save(RefreshToken.builder()
+                .tokenHash(hash(token))
+                .username(username)
+                .family(family)
+                .expiresAt(now.plus(properties.refreshTtl()))
+                .build());
+        return token;
+    }
+
+    private static String hash(String token){
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return ENCODER.encodeToString(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.brocode.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("inventory.token")
+public record TokenProperties(
+        Duration accessTtl,
+        Duration refreshTtl
+) {
+}
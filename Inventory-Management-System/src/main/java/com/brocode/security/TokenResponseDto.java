@@ -1,6 +1,8 @@
 package com.brocode.security;
 
 public record TokenResponseDto(
-        String token
+        String token,
+        String refreshToken,
+        long expiresIn
 ) {
 }
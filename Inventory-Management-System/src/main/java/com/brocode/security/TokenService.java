@@ -1,18 +1,21 @@
 package com.brocode.security;
 
 import com.brocode.entity.ActivityLog;
-import com.brocode.repo.ActivityLogRepo;
+import com.brocode.service.ActivityLogWriter;
 import com.brocode.utils.Activity;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,11 +23,55 @@ import java.util.stream.Collectors;
 public class TokenService {
 
     private final JwtEncoder jwtEncoder;
-    private final ActivityLogRepo logRepo;
+    private final ActivityLogWriter logWriter;
+    private final RefreshTokenService refreshTokens;
+    private final CustomUserDetailsService userDetailsService;
+    private final AuthenticationCache authenticationCache;
+    private final TokenProperties properties;
 
-    public String generateToken(Authentication authentication){
+    public TokenResponseDto generateToken(Authentication authentication){
+        createLog(Activity.LOG_IN, authentication);
+        return new TokenResponseDto(
+                accessToken(authentication.getName(), authentication.getAuthorities()),
+                refreshTokens.issue(authentication.getName()),
+                properties.accessTtl().toSeconds()
+        );
+    }
+
+    /**
+     * Trades a refresh token for a new access and refresh token pair. The user is read through the
+     * authentication cache so a refresh costs a token lookup and a signature, not a password check.
+     */
+    public Optional<TokenResponseDto> refresh(String refreshToken){
+        return refreshTokens.rotate(refreshToken).flatMap(rotation -> {
+            Optional<UserDetails> user = loadUser(rotation.username()).filter(UserDetails::isEnabled);
+
+            if (user.isEmpty()){
+                refreshTokens.revokeAll(rotation.username());
+                return Optional.empty();
+            }
+
+            return Optional.of(new TokenResponseDto(
+                    accessToken(rotation.username(), user.get().getAuthorities()),
+                    rotation.token(),
+                    properties.accessTtl().toSeconds()
+            ));
+        });
+    }
+
+    public void createLog(Activity activity, Authentication authentication){
+        ActivityLog activityLog = ActivityLog.builder()
+                .activity(activity)
+                .description(String.format("User %s",
+                        authentication.getName()
+                ))
+                .build();
+        logWriter.write(activityLog);
+    }
+
+    private String accessToken(String username, Collection<? extends GrantedAuthority> authorities){
         Instant now = Instant.now();
-        String scope = authentication.getAuthorities()
+        String scope = authorities
                 .stream()
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(" "));
@@ -32,22 +79,24 @@ public class TokenService {
         JwtClaimsSet claims = JwtClaimsSet.builder()
                 .issuer("self")
                 .issuedAt(now)
-                .expiresAt(now.plus(1, ChronoUnit.DAYS))
-                .subject(authentication.getName())
+                .expiresAt(now.plus(properties.accessTtl()))
+                .subject(username)
                 .claim("scope", scope)
                 .build();
 
-        createLog(Activity.LOG_IN, authentication);
         return this.jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
     }
 
-    public void createLog(Activity activity, Authentication authentication){
-        ActivityLog activityLog = ActivityLog.builder()
-                .activity(activity)
-                .description(String.format("User %s",
-                        authentication.getName()
-                ))
-                .build();
-        logRepo.save(activityLog);
+    private Optional<UserDetails> loadUser(String username){
+        UserDetails user = authenticationCache.getUserFromCache(username);
+        if (user != null) return Optional.of(user);
+
+        try {
+            user = userDetailsService.loadUserByUsername(username);
+        } catch (UsernameNotFoundException ex) {
+            return Optional.empty();
+        }
+        authenticationCache.putUserInCache(user);
+        return Optional.of(user);
     }
 }
@@ -1,7 +1,10 @@
 package com.brocode.security;
 
+import com.brocode.service.dto.KeysetPage;
+import com.brocode.service.dto.SearchPage;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -18,6 +21,7 @@ public class WebMvcConfiguration {
                         .allowedOriginPatterns("*")
                         .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                         .allowedHeaders("*")
+                        .exposedHeaders(KeysetPage.NEXT_CURSOR_HEADER, SearchPage.TOTAL_COUNT_HEADER, HttpHeaders.ETAG)
                         .allowCredentials(true)
                         .maxAge(3600);
             }
@@ -0,0 +1,58 @@
+package com.brocode.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.SecurityFilterChain;
+
+/**
+ * The HTTP filter chain, only set up when running as a web application. Command line runs such as
+ * DatasetGeneratorApplication start without a servlet context and keep the beans of SecurityConfig.
+ * Basic auth goes through the caching provider alone, registered on this chain rather than as a
+ * global bean, so a wrong password is checked once and not again by a default parent provider.
+ */
+@Configuration
+@EnableWebSecurity
+@ConditionalOnWebApplication
+public class WebSecurityConfig {
+
+    @Bean
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            CustomUserDetailsService userDetails,
+            PasswordEncoder passwordEncoder,
+            AuthenticationCache authenticationCache
+    ) throws Exception {
+
+        return http
+                .authorizeHttpRequests(authorize->
+                        authorize
+                                .requestMatchers("/uploads/**").permitAll()
+                                .requestMatchers("/auth/refresh").permitAll()
+                                .requestMatchers("/h2-console/**").permitAll()
+                                .requestMatchers("/inventory/api/activity/**").hasRole("ADMIN")
+                                .requestMatchers("/actuator/**").hasRole("ADMIN")
+                                .requestMatchers("/inventory/api/reports/daily-sales/rebuild").hasRole("ADMIN")
+                                .anyRequest().authenticated())
+                .authenticationManager(new ProviderManager(
+                        new CachingDaoAuthenticationProvider(userDetails, passwordEncoder, authenticationCache)
+                ))
+                .csrf(AbstractHttpConfigurer::disable)
+                .cors(Customizer.withDefaults())
+                .oauth2ResourceServer(oauth2 -> oauth2
+                        .jwt(Customizer.withDefaults())
+                )
+                .sessionManagement(session->
+                        session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                )
+                .httpBasic(Customizer.withDefaults())
+                .build();
+    }
+}
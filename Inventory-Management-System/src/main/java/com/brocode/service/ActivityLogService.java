@@ -2,8 +2,14 @@ package com.brocode.service;
 
 import com.brocode.entity.ActivityLog;
 import com.brocode.repo.ActivityLogRepo;
+import com.brocode.repo.ActivityLogSpecifications;
 import com.brocode.service.dto.ActivityCreateDto;
+import com.brocode.service.dto.ActivityLogFilterDto;
+import com.brocode.service.dto.KeysetPage;
+import com.brocode.utils.KeysetCursor;
+import com.brocode.utils.PagingProperties;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,11 +19,23 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ActivityLogService {
     private final ActivityLogRepo repo;
+    private final PagingProperties pagingProperties;
 
     public List<ActivityLog> getLogs(){
         return repo.findAll();
     }
 
+    public KeysetPage<ActivityLog> getPage(ActivityLogFilterDto filter, String cursor, Integer size){
+        int pageSize = pagingProperties.resolve(size);
+
+        List<ActivityLog> logs = repo.findBy(
+                ActivityLogSpecifications.matching(filter, KeysetCursor.decode(cursor)),
+                query -> query.sortBy(Sort.by(Sort.Direction.DESC, "id")).limit(pageSize + 1).all()
+        );
+
+        return KeysetPage.of(logs, pageSize, ActivityLog::getId);
+    }
+
     public Optional<ActivityLog> getLog(Long id){
         return repo.findById(id);
     }
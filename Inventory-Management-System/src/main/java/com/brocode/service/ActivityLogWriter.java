@@ -0,0 +1,168 @@
+package com.brocode.service;
+
+import com.brocode.entity.ActivityLog;
+import com.brocode.utils.ActivityLogProperties;
+import com.brocode.utils.TransactionHooks;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Takes activity logs off the business transactions. A log is stamped with its time and user when
+ * it is written, queued once the transaction commits and inserted by a background thread in JDBC
+ * batches; a batch is flushed once it holds batch-size logs or flush-interval after its first log.
+ * When the queue stays full for offer-timeout the caller inserts its own log instead.
+ */
+@Slf4j
+@Service
+public class ActivityLogWriter {
+    private static final String INSERT_SQL = """
+            insert into activity_log (activity, description, created_at, last_modified_at, created_by, last_modified_by)
+            values (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ActivityLogProperties properties;
+    private final BlockingQueue<ActivityLog> queue;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    public ActivityLogWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, ActivityLogProperties properties){
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.properties = properties;
+        this.queue = new LinkedBlockingQueue<>(properties.capacity());
+        this.worker = Thread.ofPlatform().name("activity-log-writer").daemon().unstarted(this::drainLoop);
+    }
+
+    @PostConstruct
+    public void start(){
+        worker.start();
+    }
+
+    public void write(ActivityLog activityLog){
+        stamp(activityLog);
+        TransactionHooks.afterCommit(() -> enqueue(activityLog));
+    }
+
+    private void enqueue(ActivityLog activityLog){
+        try {
+            if (running && queue.offer(activityLog, properties.offerTimeout().toMillis(), TimeUnit.MILLISECONDS)) return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        insert(List.of(activityLog));
+    }
+
+    private void drainLoop(){
+        List<ActivityLog> batch = new ArrayList<>(properties.batchSize());
+
+        while (running) {
+            try {
+                ActivityLog first = queue.poll(properties.flushInterval().toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+
+                batch.add(first);
+                fillBatch(batch, System.nanoTime() + properties.flushInterval().toNanos());
+                insert(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    /**
+     * Keeps collecting logs until the batch is full or flush-interval has passed since its first log.
+     */
+    private void fillBatch(List<ActivityLog> batch, long deadline) throws InterruptedException {
+        while (running && batch.size() < properties.batchSize()) {
+            queue.drainTo(batch, properties.batchSize() - batch.size());
+            if (batch.size() >= properties.batchSize()) return;
+
+            long waitNanos = deadline - System.nanoTime();
+            if (waitNanos <= 0) return;
+
+            ActivityLog next = queue.poll(waitNanos, TimeUnit.NANOSECONDS);
+            if (next == null) return;
+            batch.add(next);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.join(properties.flushInterval().toMillis() * 2);
+
+        List<ActivityLog> remaining = new ArrayList<>();
+        while (queue.drainTo(remaining, properties.batchSize()) > 0) {
+            insert(remaining);
+            remaining.clear();
+        }
+    }
+
+    /**
+     * Inserts the batch in one transaction. If it fails nothing of it is kept and the logs are
+     * inserted one by one, so a single bad row only loses itself.
+     */
+    private void insert(List<ActivityLog> batch){
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), this::bind));
+        } catch (RuntimeException ex) {
+            log.warn("Failed to write {} activity logs as a batch, writing them one by one", batch.size(), ex);
+            batch.forEach(this::insertOne);
+        }
+    }
+
+    private void insertOne(ActivityLog activityLog){
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, activityLog)));
+        } catch (RuntimeException ex) {
+            log.error("Failed to write {} activity log by {} at {}", activityLog.getActivity(), activityLog.getCreatedBy(), activityLog.getCreatedAt(), ex);
+        }
+    }
+
+    private void bind(PreparedStatement ps, ActivityLog activityLog) throws SQLException {
+        ps.setInt(1, activityLog.getActivity().ordinal());
+        ps.setString(2, activityLog.getDescription());
+        ps.setTimestamp(3, Timestamp.valueOf(activityLog.getCreatedAt()));
+        ps.setTimestamp(4, Timestamp.valueOf(activityLog.getLastModifiedAt()));
+        ps.setString(5, activityLog.getCreatedBy());
+        ps.setString(6, activityLog.getLastModifiedBy());
+    }
+
+    private void stamp(ActivityLog activityLog){
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Africa/Harare"));
+        activityLog.setCreatedAt(now);
+        activityLog.setLastModifiedAt(now);
+
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        boolean USER_IS_KNOWN = auth != null && auth.isAuthenticated() && !auth.getName().equalsIgnoreCase("anonymousUser");
+
+        String user = USER_IS_KNOWN ? auth.getName() : "System";
+        activityLog.setCreatedBy(user);
+        activityLog.setLastModifiedBy(user);
+    }
+}
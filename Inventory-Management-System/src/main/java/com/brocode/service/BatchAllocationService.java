@@ -0,0 +1,49 @@
+package com.brocode.service;
+
+import com.brocode.entity.Batch;
+import com.brocode.entity.Product;
+import com.brocode.repo.BatchRepo;
+import com.brocode.service.OpenBatchRegistry.Allocation;
+import com.brocode.utils.StockConflictException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class BatchAllocationService {
+    private final BatchRepo batchRepo;
+    private final OpenBatchRegistry openBatches;
+
+    public record BatchAllocation(Batch batch, double amount) {
+    }
+
+    /**
+     * Splits the amount over the product's open batches, oldest receipt first. A batch picked by
+     * the till is drawn from before the others as long as it still has stock.
+     * The split comes from the resident queue, only the touched batches are loaded to have their
+     * stockLeft reduced by the amount allocated from them. A batch left with less than
+     * {@link OpenBatchRegistry#EPSILON} is set to zero so it is closed in the database as well.
+     */
+    public List<BatchAllocation> allocate(Product product, Long preferredBatchId, double amount){
+        List<Allocation> allocations = openBatches.take(product, preferredBatchId, amount);
+
+        Map<Long, Batch> batches = batchRepo.findAllById(allocations.stream().map(Allocation::batchId).toList())
+                .stream()
+                .collect(Collectors.toMap(Batch::getId, Function.identity()));
+
+        return allocations.stream().map(allocation -> {
+            Batch batch = batches.get(allocation.batchId());
+            if (batch == null || batch.getStockLeft() < allocation.amount() - OpenBatchRegistry.EPSILON)
+                throw new StockConflictException(product.getId(), allocation.batchId());
+
+            double left = batch.getStockLeft() - allocation.amount();
+            batch.setStockLeft(left > OpenBatchRegistry.EPSILON ? left : 0);
+            return new BatchAllocation(batch, allocation.amount());
+        }).toList();
+    }
+}
@@ -5,6 +5,7 @@ import com.brocode.entity.Order;
 import com.brocode.repo.BatchRepo;
 import com.brocode.service.dto.BatchResponseDto;
 import com.brocode.service.dto.OrderItemCreateDto;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -15,20 +16,33 @@ import java.util.List;
 public class BatchService {
     private final BatchMapper mapper;
     private final BatchRepo repo;
+    private final OpenBatchRegistry openBatches;
 
     public List<BatchResponseDto> getBatches(){
-        return repo.findAll().stream().map(mapper::batchToResponse).toList();
+        return repo.findAllWithSalesBy().stream().map(mapper::batchToResponse).toList();
     }
 
     public void createBatch(OrderItemCreateDto item, Order order){
-        repo.save(mapper.createToBatch(item, order));
+        openBatches.register(repo.save(mapper.createToBatch(item, order)));
     }
 
+    public void forgetOrderBatches(Order order){
+        if (order.getBatches() != null) order.getBatches().forEach(openBatches::remove);
+    }
+
+    public void forgetAllBatches(){
+        openBatches.clear();
+    }
+
+    @Transactional
     public void delete(Long id){
+        repo.findById(id).ifPresent(openBatches::remove);
         repo.deleteById(id);
     }
 
+    @Transactional
     public void deleteAll(){
         repo.deleteAll();
+        openBatches.clear();
     }
 }
@@ -2,7 +2,6 @@ package com.brocode.service;
 
 import com.brocode.entity.ActivityLog;
 import com.brocode.entity.Category;
-import com.brocode.repo.ActivityLogRepo;
 import com.brocode.repo.CategoryRepo;
 import com.brocode.service.dto.CategoryCreateDto;
 import com.brocode.service.dto.CategoryResponseDto;
@@ -19,18 +18,19 @@ import java.util.NoSuchElementException;
 public class CategoryService {
     private final MyCategoryMapper mapper;
     private final CategoryRepo repo;
-    private final ActivityLogRepo logRepo;
+    private final ActivityLogWriter logWriter;
+    private final ReferenceDataCache referenceCache;
 
     public Category getCategoryOrThrowError(Long id){
         return repo.findById(id).orElseThrow(() -> new NoSuchElementException("Category Not Found"));
     }
 
     public List<CategoryResponseDto> getAll(){
-        return repo.findAll().stream().map(mapper::categoryToResponse).toList();
+        return repo.findAllWithProductsBy().stream().map(mapper::categoryToResponse).toList();
     }
 
     public CategoryResponseDto getCategory(Long id){
-        return repo.findById(id).map(mapper::categoryToResponse).orElseThrow(() -> new NoSuchElementException("Category Not Found"));
+        return repo.findWithProductsById(id).map(mapper::categoryToResponse).orElseThrow(() -> new NoSuchElementException("Category Not Found"));
     }
 
     @Transactional
@@ -45,6 +45,7 @@ public class CategoryService {
         Category category = getCategoryOrThrowError(id);
         createLog(category, Activity.DELETE);
         repo.delete(category);
+        referenceCache.evictCategory(id);
     }
 
     @Transactional
@@ -53,6 +54,7 @@ public class CategoryService {
 
         category.setName(dto.name());
         createLog(category, Activity.MODIFY);
+        referenceCache.evictCategory(id);
         return mapper.categoryToResponse(repo.save(category));
     }
 
@@ -65,10 +67,11 @@ public class CategoryService {
                 )
                 .build();
 
-        logRepo.save(activityLog);
+        logWriter.write(activityLog);
     }
 
     public void deleteAll() {
         repo.deleteAll();
+        referenceCache.evictAll(Category.class);
     }
 }
@@ -0,0 +1,127 @@
+package com.brocode.service;
+
+import com.brocode.repo.OrderItemRepo;
+import com.brocode.repo.SaleItemRepo;
+import com.brocode.service.dto.OrderCreateDto;
+import com.brocode.service.dto.OrderItemCreateDto;
+import com.brocode.service.dto.OrderResponseDto;
+import com.brocode.service.dto.SaleCreateDto;
+import com.brocode.service.dto.SaleItemCreateDto;
+import com.brocode.service.dto.SaleResponseDto;
+import com.brocode.utils.CheckoutProperties;
+import com.brocode.utils.StockConflictException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Entry point for everything that moves stock. Product and Batch rows are versioned, so two tills
+ * writing the same row make one of the transactions fail at flush. The loser is run again from
+ * scratch in a new transaction, up to inventory.checkout.max-attempts times.
+ * Each attempt holds the lock stripes of the products it names until its transaction has committed,
+ * which is why the locks live here and not inside the transactional services.
+ * Edits and deletes also touch the products already on the sale or order, so those are locked too;
+ * the set is read again once the locks are held and the attempt starts over if it grew meanwhile.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CheckoutService {
+    private final SaleService saleService;
+    private final MyOrderService orderService;
+    private final SaleItemRepo saleItemRepo;
+    private final OrderItemRepo orderItemRepo;
+    private final OpenBatchRegistry openBatches;
+    private final StripedLockManager lockManager;
+    private final CheckoutProperties properties;
+
+    public SaleResponseDto createSale(SaleCreateDto dto){
+        return withRetry(() -> saleService.createSale(dto), () -> productIds(dto));
+    }
+
+    public SaleResponseDto editSale(Long id, SaleCreateDto dto){
+        return withRetry(() -> saleService.editSale(id, dto), () -> union(saleItemRepo.findProductIdsBySaleId(id), productIds(dto)));
+    }
+
+    public void deleteSale(Long id){
+        withRetry(() -> {
+            saleService.delete(id);
+            return null;
+        }, () -> saleItemRepo.findProductIdsBySaleId(id));
+    }
+
+    public OrderResponseDto createOrder(OrderCreateDto dto){
+        return withRetry(() -> orderService.createOrder(dto, true), () -> productIds(dto));
+    }
+
+    public OrderResponseDto editOrder(Long id, OrderCreateDto dto){
+        return withRetry(() -> orderService.editOrder(id, dto), () -> union(orderItemRepo.findProductIdsByOrderId(id), productIds(dto)));
+    }
+
+    public void deleteOrder(Long id){
+        withRetry(() -> {
+            orderService.deleteOrder(id);
+            return null;
+        }, () -> orderItemRepo.findProductIdsByOrderId(id));
+    }
+
+    private <T> T withRetry(Supplier<T> checkout, Supplier<List<Long>> productIds){
+        for (int attempt = 1; ; attempt++) {
+            Set<Long> locked = new LinkedHashSet<>(productIds.get());
+
+            try {
+                return lockManager.withLocks(locked, () -> {
+                    if (!locked.containsAll(productIds.get()))
+                        throw new ConcurrencyFailureException("Products of the checkout changed while waiting for their locks");
+
+                    return checkout.get();
+                });
+            } catch (ConcurrencyFailureException ex) {
+                if (attempt >= properties.maxAttempts()) throw ex;
+
+                log.debug("Checkout attempt {} lost a stock update, retrying: {}", attempt, ex.getMessage());
+
+                if (ex instanceof StockConflictException conflict) openBatches.reload(conflict.getProductId());
+                else locked.forEach(openBatches::reload);
+
+                backOff(attempt);
+            }
+        }
+    }
+
+    private void backOff(int attempt){
+        long maxMillis = properties.backoff().toMillis() * attempt;
+
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(maxMillis + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Checkout interrupted", e);
+        }
+    }
+
+    private List<Long> productIds(SaleCreateDto dto){
+        if (dto.items() == null) return List.of();
+
+        return dto.items().stream().map(SaleItemCreateDto::productId).filter(Objects::nonNull).distinct().toList();
+    }
+
+    private List<Long> productIds(OrderCreateDto dto){
+        if (dto.items() == null) return List.of();
+
+        return dto.items().stream().map(OrderItemCreateDto::productId).filter(Objects::nonNull).distinct().toList();
+    }
+
+    private List<Long> union(List<Long> existing, List<Long> requested){
+        return Stream.concat(existing.stream(), requested.stream()).distinct().toList();
+    }
+}
@@ -0,0 +1,20 @@
+package com.brocode.service;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CollectionVersionListener {
+    private final CollectionVersions collectionVersions;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void changed(Object entity){
+        collectionVersions.changed(entity);
+    }
+}
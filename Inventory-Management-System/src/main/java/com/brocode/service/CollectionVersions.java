@@ -0,0 +1,57 @@
+package com.brocode.service;
+
+import com.brocode.entity.*;
+import com.brocode.utils.TransactionHooks;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Write counters per entity type, bumped after every commit that touched the type. A list ETag is
+ * made of the counters of every type its response shows, plus the boot time so a restart never
+ * hands out an ETag from before it.
+ */
+@Service
+public class CollectionVersions {
+    private final long epoch = System.currentTimeMillis();
+    private final Map<Type, AtomicLong> versions = new EnumMap<>(Type.class);
+
+    public enum Type {
+        PRODUCT, CATEGORY, SUPPLIER, ORDER, SALE, BATCH
+    }
+
+    public CollectionVersions(){
+        for (Type type : Type.values()) versions.put(type, new AtomicLong());
+    }
+
+    public void changed(Object entity){
+        Type type = typeOf(entity);
+        if (type != null) TransactionHooks.afterCommit(() -> versions.get(type).incrementAndGet());
+    }
+
+    public String etag(String name, Type... shown){
+        String counters = Arrays.stream(shown)
+                .map(type -> String.valueOf(versions.get(type).get()))
+                .collect(Collectors.joining("."));
+
+        return "\"" + name + "-" + epoch + "-" + counters + "\"";
+    }
+
+    private Type typeOf(Object entity){
+        return switch (entity) {
+            case Product product -> Type.PRODUCT;
+            case Category category -> Type.CATEGORY;
+            case Supplier supplier -> Type.SUPPLIER;
+            case Order order -> Type.ORDER;
+            case OrderItem item -> Type.ORDER;
+            case Sale sale -> Type.SALE;
+            case SaleItem item -> Type.SALE;
+            case Batch batch -> Type.BATCH;
+            default -> null;
+        };
+    }
+}
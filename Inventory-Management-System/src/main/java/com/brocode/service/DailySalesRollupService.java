@@ -0,0 +1,83 @@
+package com.brocode.service;
+
+import com.brocode.entity.DailySalesRollup;
+import com.brocode.entity.SaleItem;
+import com.brocode.repo.DailySalesRollupRepo;
+import com.brocode.service.dto.DailySalesResponseDto;
+import com.brocode.utils.InvalidDateRangeException;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+public class DailySalesRollupService {
+    private final DailySalesRollupRepo repo;
+
+    public List<DailySalesResponseDto> getDailySales(LocalDate from, LocalDate to, Long productId, Long categoryId){
+        if (from.isAfter(to)) throw new InvalidDateRangeException("from must not be after to");
+
+        return repo.findDailySales(from, to, productId, categoryId);
+    }
+
+    public void add(LocalDate saleDate, SaleItem item){
+        apply(saleDate, item, 1);
+    }
+
+    public void subtract(LocalDate saleDate, SaleItem item){
+        apply(saleDate, item, -1);
+    }
+
+    public void move(List<SaleItem> items, LocalDate from, LocalDate to){
+        if (items == null || Objects.equals(from, to)) return;
+
+        items.forEach(item -> {
+            subtract(from, item);
+            add(to, item);
+        });
+    }
+
+    public void clear(){
+        repo.deleteAllInBatch();
+    }
+
+    /**
+     * Recomputes every row from the sale items, for backfilling or after bulk deletes.
+     */
+    @Transactional
+    public int rebuild(){
+        repo.deleteAllInBatch();
+        return repo.rebuild();
+    }
+
+    /**
+     * Only reached through CheckoutService, which holds the lock of every product on the sale for
+     * creates, edits and deletes alike, so two transactions never insert the same key at once.
+     * Calling this from anywhere that does not hold that lock can lose an insert to the unique key.
+     */
+    private void apply(LocalDate saleDate, SaleItem item, int sign){
+        Long productId = item.getProduct().getId();
+        double orderPrice = item.getBatch() != null && item.getBatch().getOrderPrice() != null ? item.getBatch().getOrderPrice() : 0;
+
+        double quantity = sign * item.getAmount();
+        double revenue = quantity * item.getSalePrice();
+        double cost = quantity * orderPrice;
+
+        boolean updated = repo.increment(saleDate, productId, quantity, revenue, cost) > 0;
+
+        if (sign < 0) repo.deleteIfEmpty(saleDate, productId);
+        if (updated || sign < 0) return;
+
+        repo.save(DailySalesRollup.builder()
+                .saleDate(saleDate)
+                .productId(productId)
+                .quantity(quantity)
+                .revenue(revenue)
+                .cost(cost)
+                .build());
+    }
+}
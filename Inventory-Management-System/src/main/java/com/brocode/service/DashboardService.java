@@ -0,0 +1,45 @@
+package com.brocode.service;
+
+import com.brocode.repo.*;
+import com.brocode.service.dto.DashboardResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+@Service
+@RequiredArgsConstructor
+public class DashboardService {
+    private static final int LOW_STOCK_LIMIT = 20;
+
+    private final ProductRepo productRepo;
+    private final CategoryRepo categoryRepo;
+    private final SupplierRepo supplierRepo;
+    private final OrderRepo orderRepo;
+    private final SalesRepo salesRepo;
+    private final SaleMapper saleMapper;
+    private final OrderMapper orderMapper;
+
+    /**
+     * Every figure is a COUNT, SUM or top-N query, so the size of the response does not grow with the history.
+     */
+    public DashboardResponseDto getDashboard(){
+        LocalDate today = LocalDate.now(ZoneId.of("Africa/Harare"));
+
+        return new DashboardResponseDto(
+                productRepo.count(),
+                categoryRepo.count(),
+                supplierRepo.count(),
+                orderRepo.count(),
+                salesRepo.count(),
+                productRepo.countLowStock(),
+                salesRepo.sumTotalAmount(),
+                salesRepo.sumTotalAmountOn(today),
+                productRepo.sumInventoryValue(),
+                productRepo.findResponses(ProductSpecifications.lowStock(true), LOW_STOCK_LIMIT),
+                salesRepo.findTop5ByOrderBySaleDateDescIdDesc().stream().map(saleMapper::saleToResponse).toList(),
+                orderRepo.findTop5ByOrderByOrderDateDescIdDesc().stream().map(orderMapper::orderToResponse).toList()
+        );
+    }
+}
@@ -0,0 +1,563 @@
+package com.brocode.service;
+
+import com.brocode.utils.DatasetProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntConsumer;
+
+/**
+ * Fills an empty database with a synthetic inventory history for benchmarking, the same settings
+ * always giving the same rows. Product popularity follows a Zipf distribution, daily sales follow
+ * the week and grow over the years, and each product is restocked by supplier deliveries sized to
+ * what sold since the one before, so its batches drain oldest first and only the latest has stock.
+ * Every sale day is generated from its own seed twice, once to size the deliveries and once to
+ * insert it, and all rows go in through parallel JDBC batches.
+ */
+@Slf4j
+@Service
+@Profile("dataset")
+@RequiredArgsConstructor
+public class DatasetGenerator implements ApplicationRunner {
+    private static final List<String> TABLES = List.of("category", "supplier", "product", "tbl_order", "order_item", "batch", "sale", "sale_item");
+    private static final String[] CATEGORY_NAMES = {
+            "Beverages", "Dairy", "Bakery", "Grains", "Household", "Personal Care", "Snacks", "Frozen", "Canned Goods",
+            "Condiments", "Cleaning", "Baby", "Pet Care", "Stationery", "Hardware", "Produce", "Meat", "Confectionery"
+    };
+    private static final String[] BRANDS = {"Sunrise", "Mazoe", "Golden", "Lobels", "Tanganda", "Dairibord", "Pearl", "Gloria", "Huletts", "Cairns"};
+    private static final String[] ITEMS = {"Rice", "Sugar", "Flour", "Cooking Oil", "Tea", "Coffee", "Milk", "Bread", "Soap", "Salt", "Beans", "Juice", "Biscuits", "Jam", "Washing Powder"};
+    private static final String[] SIZES = {"250g", "500g", "1kg", "2kg", "5kg", "500ml", "1l", "2l", "5l", "6 pack", "24 pack"};
+    private static final double[] WEEKDAY_WEIGHTS = {0.95, 0.9, 0.95, 1.0, 1.2, 1.45, 0.55};
+    private static final int CASE_SIZE = 12;
+    private static final double MEAN_EXTRA_UNITS = 0.6;
+    private static final int ROWS_PER_TRANSACTION = 50_000;
+    private static final String SYSTEM = "System";
+    private static final String BUYER = "admin";
+    private static final String CASHIER = "cashier";
+
+    private static final String INSERT_CATEGORY_SQL = """
+            insert into category (id, name, created_at, last_modified_at, created_by, last_modified_by)
+            values (?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_SUPPLIER_SQL = """
+            insert into supplier (id, name, contact, address, contact_person, created_at, last_modified_at, created_by, last_modified_by)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_PRODUCT_SQL = """
+            insert into product (id, product_key, name, description, category_id, price, warning_stock_level, in_stock, unit, version,
+                                 created_at, last_modified_at, created_by, last_modified_by)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_ORDER_SQL = """
+            insert into tbl_order (id, order_id, order_date, total_amount, supplier, created_at, last_modified_at, created_by, last_modified_by)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_ORDER_ITEM_SQL = """
+            insert into order_item (id, order_id, product_id, amount, order_price, created_at, last_modified_at, created_by, last_modified_by)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_BATCH_SQL = """
+            insert into batch (id, order_id, product_id, order_price, stock_left, version, created_at, last_modified_at, created_by, last_modified_by)
+            values (?, ?, ?, ?, ?, 0, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_SALE_SQL = """
+            insert into sale (id, sale_id, sale_date, total_amount, created_at, last_modified_at, created_by, last_modified_by)
+            values (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_SALE_ITEM_SQL = """
+            insert into sale_item (id, sale_id, product_id, batch_id, amount, sale_price, created_at, last_modified_at, created_by, last_modified_by)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DatasetProperties properties;
+    private final DailySalesRollupService rollupService;
+
+    private interface SaleVisitor {
+        void sale(int day, int sale, int firstLine, int secondOfDay, int[] products, int[] units, int lines);
+    }
+
+    private interface RowSetter {
+        void set(PreparedStatement ps, int row) throws SQLException;
+    }
+
+    private record SaleRow(long id, LocalDate saleDate, LocalDateTime at, double total) {
+    }
+
+    private record SaleItemRow(long id, long saleId, int product, int batchId, int units, LocalDateTime at) {
+    }
+
+    /**
+     * Products, their popularity and restock rhythm, and the sale and delivery sizes found by the
+     * sizing pass. Rows are addressed by index, ids are index + 1.
+     */
+    private static final class Plan {
+        final long seed;
+        final int products;
+        final int categories;
+        final int suppliers;
+        final int days;
+        final int maxBasket;
+        final double averageBasket;
+        final double salesPerDay;
+        final LocalDate firstDay;
+        final int chunkDays;
+
+        final int[] productByRank;
+        final double[] rankCumulative;
+        final int[] categoryOf;
+        final int[] supplierOf;
+        final double[] price;
+        final double[] dailyUnits;
+        final int[] restockDays;
+        final int[] phase;
+        final int[] periodBase;
+        final AtomicLongArray soldInPeriod;
+
+        final int[] salesOnDay;
+        final int[] linesOnDay;
+        final long[] firstSaleId;
+        final long[] firstLineId;
+        int[] batchOfPeriod;
+
+        Plan(DatasetProperties properties){
+            seed = properties.seed();
+            products = properties.products() > 0 ? properties.products() : Math.clamp(properties.lineItems() / 250, 100, 250_000);
+            categories = properties.categories();
+            suppliers = properties.suppliers();
+            days = properties.days();
+            maxBasket = properties.maxBasket();
+            averageBasket = properties.averageBasket();
+            salesPerDay = properties.lineItems() / averageBasket / days;
+            firstDay = (properties.endDate() != null ? properties.endDate() : LocalDate.now().minusDays(1)).minusDays(days - 1);
+            chunkDays = Math.clamp(ROWS_PER_TRANSACTION * (long) days / Math.max(1, properties.lineItems()), 1, days);
+
+            SplittableRandom random = new SplittableRandom(seed);
+            productByRank = new int[products];
+            for (int i = 0; i < products; i++) productByRank[i] = i;
+            for (int i = products - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int swap = productByRank[i];
+                productByRank[i] = productByRank[j];
+                productByRank[j] = swap;
+            }
+
+            rankCumulative = new double[products];
+            double total = 0;
+            for (int rank = 0; rank < products; rank++) rankCumulative[rank] = total += 1 / Math.pow(rank + 1, properties.zipfExponent());
+            for (int rank = 0; rank < products; rank++) rankCumulative[rank] /= total;
+
+            double linesPerDay = properties.lineItems() / (double) days;
+            categoryOf = new int[products];
+            supplierOf = new int[products];
+            price = new double[products];
+            dailyUnits = new double[products];
+            restockDays = new int[products];
+            phase = new int[products];
+            periodBase = new int[products + 1];
+            for (int rank = 0; rank < products; rank++) {
+                int p = productByRank[rank];
+                double share = rankCumulative[rank] - (rank == 0 ? 0 : rankCumulative[rank - 1]);
+                dailyUnits[p] = share * linesPerDay * (1 + MEAN_EXTRA_UNITS);
+            }
+            for (int p = 0; p < products; p++) {
+                categoryOf[p] = (int) (categories * Math.pow(random.nextDouble(), 1.5));
+                supplierOf[p] = (categoryOf[p] * 7 + random.nextInt(3)) % suppliers;
+                price[p] = Math.max(0.25, Math.round(Math.exp(1.3 + 0.8 * random.nextGaussian()) * 20) / 20.0);
+                restockDays[p] = Math.clamp((long) Math.ceil(2 * CASE_SIZE / dailyUnits[p]), 7, 120);
+                phase[p] = random.nextInt(restockDays[p]);
+                periodBase[p + 1] = periodBase[p] + (days - 1 + phase[p]) / restockDays[p] + 1;
+            }
+            soldInPeriod = new AtomicLongArray(periodBase[products]);
+
+            salesOnDay = new int[days];
+            linesOnDay = new int[days];
+            firstSaleId = new long[days];
+            firstLineId = new long[days];
+        }
+
+        int chunks(){
+            return (days + chunkDays - 1) / chunkDays;
+        }
+
+        int period(int product, int day){
+            return periodBase[product] + (day + phase[product]) / restockDays[product];
+        }
+
+        int lastPeriod(int product){
+            return periodBase[product + 1] - 1;
+        }
+
+        int receiptDay(int product, int period){
+            return Math.max(0, (period - periodBase[product]) * restockDays[product] - phase[product]);
+        }
+
+        /**
+         * Units on the shelf once the history ends, about one restock period of demand in whole cases.
+         */
+        long closingStock(int product){
+            return CASE_SIZE * Math.max(1, (long) Math.ceil(dailyUnits[product] * restockDays[product] / CASE_SIZE));
+        }
+
+        int popularProduct(SplittableRandom random){
+            int rank = Arrays.binarySearch(rankCumulative, random.nextDouble());
+            if (rank < 0) rank = -rank - 1;
+            return productByRank[Math.min(rank, products - 1)];
+        }
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        generate();
+    }
+
+    public void generate() throws InterruptedException {
+        for (String table : TABLES) {
+            Long rows = jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+            if (rows != null && rows > 0) throw new IllegalStateException("Table " + table + " already has " + rows + " rows, the dataset is only generated into an empty database");
+        }
+
+        long started = System.nanoTime();
+        Plan plan = new Plan(properties);
+        int threads = properties.threads() > 0 ? properties.threads() : Math.min(Runtime.getRuntime().availableProcessors(), 8);
+        log.info("Generating about {} sale lines over {} days from {} for {} products with {} threads",
+                properties.lineItems(), plan.days, plan.firstDay, plan.products, threads);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            long phase = System.nanoTime();
+            size(executor, plan);
+            log.info("Sized {} sales with {} lines in {} ms", plan.firstSaleId[plan.days - 1] + plan.salesOnDay[plan.days - 1] - 1,
+                    plan.firstLineId[plan.days - 1] + plan.linesOnDay[plan.days - 1] - 1, millisSince(phase));
+
+            phase = System.nanoTime();
+            insertCatalogue(executor, plan);
+            log.info("Inserted {} categories, {} suppliers and {} products in {} ms", plan.categories, plan.suppliers, plan.products, millisSince(phase));
+
+            phase = System.nanoTime();
+            int batches = insertDeliveries(executor, plan);
+            log.info("Inserted {} batches in {} ms", batches, millisSince(phase));
+
+            phase = System.nanoTime();
+            insertSales(executor, plan);
+            log.info("Inserted sales in {} ms", millisSince(phase));
+        }
+
+        for (String table : TABLES) {
+            Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+            jdbcTemplate.execute("alter table " + table + " alter column id restart with " + (maxId + 1));
+        }
+
+        long phase = System.nanoTime();
+        int rollups = rollupService.rebuild();
+        log.info("Rebuilt {} daily sales rollups in {} ms", rollups, millisSince(phase));
+        log.info("Dataset generated in {} s", millisSince(started) / 1000);
+    }
+
+    /**
+     * First pass over the sale days, counts sales and lines per day and units sold per restock
+     * period, so ids and delivery sizes are known before anything is inserted.
+     */
+    private void size(ExecutorService executor, Plan plan) throws InterruptedException {
+        parallel(executor, plan.chunks(), chunk -> {
+            for (int day = chunk * plan.chunkDays; day < Math.min(plan.days, (chunk + 1) * plan.chunkDays); day++) {
+                plan.salesOnDay[day] = generateDay(plan, day, (d, sale, firstLine, secondOfDay, products, units, lines) -> {
+                    for (int line = 0; line < lines; line++) plan.soldInPeriod.addAndGet(plan.period(products[line], d), units[line]);
+                    plan.linesOnDay[d] += lines;
+                });
+            }
+        });
+
+        long saleId = 1;
+        long lineId = 1;
+        for (int day = 0; day < plan.days; day++) {
+            plan.firstSaleId[day] = saleId;
+            plan.firstLineId[day] = lineId;
+            saleId += plan.salesOnDay[day];
+            lineId += plan.linesOnDay[day];
+        }
+    }
+
+    private void insertCatalogue(ExecutorService executor, Plan plan) throws InterruptedException {
+        Timestamp opened = Timestamp.valueOf(plan.firstDay.minusDays(1).atTime(7, 0));
+
+        insertRows(executor, INSERT_CATEGORY_SQL, plan.categories, (ps, c) -> {
+            ps.setLong(1, c + 1);
+            ps.setString(2, c < CATEGORY_NAMES.length ? CATEGORY_NAMES[c] : CATEGORY_NAMES[c % CATEGORY_NAMES.length] + " " + (c / CATEGORY_NAMES.length + 1));
+            audit(ps, 3, opened, SYSTEM);
+        });
+
+        insertRows(executor, INSERT_SUPPLIER_SQL, plan.suppliers, (ps, s) -> {
+            ps.setLong(1, s + 1);
+            ps.setString(2, BRANDS[s % BRANDS.length] + " Distributors " + (s + 1));
+            ps.setString(3, String.format("0772%06d", s + 1));
+            ps.setString(4, (s + 1) + " Industrial Road");
+            ps.setString(5, "Contact " + (s + 1));
+            audit(ps, 6, opened, SYSTEM);
+        });
+
+        insertRows(executor, INSERT_PRODUCT_SQL, plan.products, (ps, p) -> {
+            ps.setLong(1, p + 1);
+            ps.setString(2, "PR" + (1000 + p + 1));
+            ps.setString(3, BRANDS[p % BRANDS.length] + " " + ITEMS[p / BRANDS.length % ITEMS.length] + " " + SIZES[p % SIZES.length]);
+            ps.setString(4, "Synthetic product " + (p + 1));
+            ps.setLong(5, plan.categoryOf[p] + 1);
+            ps.setDouble(6, plan.price[p]);
+            ps.setDouble(7, Math.max(2, Math.round(plan.dailyUnits[p] * 3)));
+            ps.setDouble(8, plan.closingStock(p));
+            ps.setString(9, "pc");
+            audit(ps, 10, opened, SYSTEM);
+        });
+    }
+
+    /**
+     * One batch per restock period that sold anything plus the product's current one. Deliveries from
+     * the same supplier on the same day make one order, batch ids ascend with the receipt date.
+     * Returns the number of batches.
+     */
+    private int insertDeliveries(ExecutorService executor, Plan plan) throws InterruptedException {
+        int receipts = 0;
+        for (int p = 0; p < plan.products; p++) {
+            for (int period = plan.periodBase[p]; period <= plan.lastPeriod(p); period++) {
+                if (plan.soldInPeriod.get(period) > 0 || period == plan.lastPeriod(p)) receipts++;
+            }
+        }
+
+        long[] keys = new long[receipts];
+        int receipt = 0;
+        for (int p = 0; p < plan.products; p++) {
+            for (int period = plan.periodBase[p]; period <= plan.lastPeriod(p); period++) {
+                if (plan.soldInPeriod.get(period) == 0 && period != plan.lastPeriod(p)) continue;
+                keys[receipt++] = ((long) plan.receiptDay(p, period) * plan.suppliers + plan.supplierOf[p]) * plan.products + p;
+            }
+        }
+        Arrays.parallelSort(keys);
+
+        SplittableRandom random = new SplittableRandom(plan.seed + 1);
+        plan.batchOfPeriod = new int[plan.periodBase[plan.products]];
+        int[] batchOrder = new int[receipts];
+        long[] batchUnits = new long[receipts];
+        long[] batchStock = new long[receipts];
+        double[] batchCost = new double[receipts];
+        long[] orderDelivery = new long[receipts];
+        double[] orderTotal = new double[receipts];
+        int orderCount = 0;
+
+        for (int batch = 0; batch < receipts; batch++) {
+            int p = (int) (keys[batch] % plan.products);
+            long delivery = keys[batch] / plan.products;
+            int day = (int) (delivery / plan.suppliers);
+            int period = plan.periodBase[p] + (day + plan.phase[p]) / plan.restockDays[p];
+
+            if (orderCount == 0 || orderDelivery[orderCount - 1] != delivery) orderDelivery[orderCount++] = delivery;
+
+            plan.batchOfPeriod[period] = batch + 1;
+            batchOrder[batch] = orderCount;
+            batchStock[batch] = period == plan.lastPeriod(p) ? plan.closingStock(p) : 0;
+            batchUnits[batch] = plan.soldInPeriod.get(period) + batchStock[batch];
+            batchCost[batch] = Math.round(plan.price[p] * (55 + 20 * random.nextDouble())) / 100.0;
+            orderTotal[orderCount - 1] += batchUnits[batch] * batchCost[batch];
+        }
+
+        insertRows(executor, INSERT_ORDER_SQL, orderCount, (ps, o) -> {
+            LocalDate orderDate = plan.firstDay.plusDays(orderDelivery[o] / plan.suppliers);
+            ps.setLong(1, o + 1);
+            ps.setString(2, "OD" + (1000 + o + 1));
+            ps.setObject(3, orderDate);
+            ps.setDouble(4, Math.round(orderTotal[o] * 100) / 100.0);
+            ps.setLong(5, orderDelivery[o] % plan.suppliers + 1);
+            audit(ps, 6, Timestamp.valueOf(orderDate.atTime(7, 0)), BUYER);
+        });
+
+        insertRows(executor, INSERT_ORDER_ITEM_SQL, receipts, (ps, b) -> {
+            ps.setLong(1, b + 1);
+            ps.setLong(2, batchOrder[b]);
+            ps.setLong(3, keys[b] % plan.products + 1);
+            ps.setDouble(4, batchUnits[b]);
+            ps.setDouble(5, batchCost[b]);
+            audit(ps, 6, receivedAt(plan, keys[b]), BUYER);
+        });
+        insertRows(executor, INSERT_BATCH_SQL, receipts, (ps, b) -> {
+            ps.setLong(1, b + 1);
+            ps.setLong(2, batchOrder[b]);
+            ps.setLong(3, keys[b] % plan.products + 1);
+            ps.setDouble(4, batchCost[b]);
+            ps.setDouble(5, batchStock[b]);
+            audit(ps, 6, receivedAt(plan, keys[b]), BUYER);
+        });
+        return receipts;
+    }
+
+    /**
+     * Second pass over the sale days, each chunk of days inserted in its own transaction.
+     */
+    private void insertSales(ExecutorService executor, Plan plan) throws InterruptedException {
+        parallel(executor, plan.chunks(), chunk -> {
+            List<SaleRow> sales = new ArrayList<>();
+            List<SaleItemRow> items = new ArrayList<>();
+
+            for (int day = chunk * plan.chunkDays; day < Math.min(plan.days, (chunk + 1) * plan.chunkDays); day++) {
+                LocalDate saleDate = plan.firstDay.plusDays(day);
+                generateDay(plan, day, (d, sale, firstLine, secondOfDay, products, units, lines) -> {
+                    long saleId = plan.firstSaleId[d] + sale;
+                    LocalDateTime at = saleDate.atStartOfDay().plusSeconds(secondOfDay);
+                    double total = 0;
+                    for (int line = 0; line < lines; line++) {
+                        int p = products[line];
+                        total += units[line] * plan.price[p];
+                        items.add(new SaleItemRow(plan.firstLineId[d] + firstLine + line, saleId, p, plan.batchOfPeriod[plan.period(p, d)], units[line], at));
+                    }
+                    sales.add(new SaleRow(saleId, saleDate, at, Math.round(total * 100) / 100.0));
+                });
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_SALE_SQL, sales, properties.batchSize(), (ps, sale) -> {
+                    ps.setLong(1, sale.id());
+                    ps.setString(2, "S" + (1000 + sale.id()));
+                    ps.setObject(3, sale.saleDate());
+                    ps.setDouble(4, sale.total());
+                    audit(ps, 5, Timestamp.valueOf(sale.at()), CASHIER);
+                });
+                jdbcTemplate.batchUpdate(INSERT_SALE_ITEM_SQL, items, properties.batchSize(), (ps, item) -> {
+                    ps.setLong(1, item.id());
+                    ps.setLong(2, item.saleId());
+                    ps.setLong(3, item.product() + 1);
+                    ps.setLong(4, item.batchId());
+                    ps.setDouble(5, item.units());
+                    ps.setDouble(6, plan.price[item.product()]);
+                    audit(ps, 7, Timestamp.valueOf(item.at()), CASHIER);
+                });
+            });
+        });
+    }
+
+    /**
+     * The sales of one day, drawn from a random generator seeded by the day alone so both passes and
+     * any thread see the same sales. Returns the number of sales.
+     */
+    private static int generateDay(Plan plan, int day, SaleVisitor visitor){
+        SplittableRandom random = new SplittableRandom(plan.seed * 0x9E3779B97F4A7C15L + day);
+        LocalDate date = plan.firstDay.plusDays(day);
+
+        double expected = plan.salesPerDay
+                * WEEKDAY_WEIGHTS[date.getDayOfWeek().ordinal()]
+                * (0.8 + 0.4 * day / plan.days)
+                * (date.getMonth() == Month.DECEMBER ? 1.25 : 1);
+        int sales = (int) Math.max(0, Math.round(expected + Math.sqrt(expected) * random.nextGaussian()));
+
+        int[] products = new int[plan.maxBasket];
+        int[] units = new int[plan.maxBasket];
+        int firstLine = 0;
+        for (int sale = 0; sale < sales; sale++) {
+            int lines = Math.min(plan.maxBasket, 1 + geometric(random, plan.averageBasket - 1));
+            for (int line = 0; line < lines; line++) {
+                products[line] = distinctProduct(plan, random, products, line);
+                units[line] = 1 + geometric(random, MEAN_EXTRA_UNITS);
+            }
+            visitor.sale(day, sale, firstLine, 8 * 3600 + random.nextInt(11 * 3600), products, units, lines);
+            firstLine += lines;
+        }
+        return sales;
+    }
+
+    private static int distinctProduct(Plan plan, SplittableRandom random, int[] basket, int lines){
+        int product = plan.popularProduct(random);
+        for (int attempt = 0; attempt < 8 && contains(basket, lines, product); attempt++) product = plan.popularProduct(random);
+        return product;
+    }
+
+    private static boolean contains(int[] values, int length, int value){
+        for (int i = 0; i < length; i++) if (values[i] == value) return true;
+        return false;
+    }
+
+    /**
+     * Failures before the first success, with the given mean.
+     */
+    private static int geometric(SplittableRandom random, double mean){
+        if (mean <= 0) return 0;
+        return (int) (Math.log(1 - random.nextDouble()) / Math.log(mean / (1 + mean)));
+    }
+
+    private static Timestamp receivedAt(Plan plan, long key){
+        long delivery = key / plan.products;
+        return Timestamp.valueOf(plan.firstDay.plusDays(delivery / plan.suppliers).atTime(7, 0));
+    }
+
+    private static void audit(PreparedStatement ps, int index, Timestamp at, String user) throws SQLException {
+        ps.setTimestamp(index, at);
+        ps.setTimestamp(index + 1, at);
+        ps.setString(index + 2, user);
+        ps.setString(index + 3, user);
+    }
+
+    /**
+     * Inserts rows 0 to count - 1 in parallel, each task writing up to ROWS_PER_TRANSACTION rows in
+     * one transaction as JDBC batches of batch-size.
+     */
+    private void insertRows(ExecutorService executor, String sql, int count, RowSetter setter) throws InterruptedException {
+        int batchSize = properties.batchSize();
+        parallel(executor, (count + ROWS_PER_TRANSACTION - 1) / ROWS_PER_TRANSACTION, task -> {
+            int end = Math.min(count, (task + 1) * ROWS_PER_TRANSACTION);
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int from = task * ROWS_PER_TRANSACTION; from < end; from += batchSize) {
+                    int first = from;
+                    int size = Math.min(batchSize, end - from);
+                    jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            setter.set(ps, first + i);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return size;
+                        }
+                    });
+                }
+            });
+        });
+    }
+
+    private void parallel(ExecutorService executor, int tasks, IntConsumer task) throws InterruptedException {
+        List<Future<?>> futures = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            int index = i;
+            futures.add(executor.submit(() -> task.accept(index)));
+        }
+
+        try {
+            for (Future<?> future : futures) future.get();
+        } catch (ExecutionException ex) {
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Dataset generation failed", ex.getCause());
+        }
+    }
+
+    private static long millisSince(long nanos){
+        return (System.nanoTime() - nanos) / 1_000_000;
+    }
+}
@@ -3,7 +3,6 @@ package com.brocode.service;
 import com.brocode.entity.ActivityLog;
 import com.brocode.entity.Batch;
 import com.brocode.entity.Order;
-import com.brocode.repo.ActivityLogRepo;
 import com.brocode.repo.OrderRepo;
 import com.brocode.service.dto.OrderCreateDto;
 import com.brocode.service.dto.OrderItemCreateDto;
@@ -22,7 +21,7 @@ import java.util.NoSuchElementException;
 public class MyOrderService {
     private final OrderMapper mapper;
     private final OrderRepo repo;
-    private final ActivityLogRepo logRepo;
+    private final ActivityLogWriter logWriter;
     private final OrderItemsService orderItemsService;
     private final BatchService batchService;
 
@@ -41,11 +40,13 @@ public class MyOrderService {
     }
 
     public List<OrderResponseDto> getAll(){
-        return repo.findAll().stream().map(mapper::orderToResponse).toList();
+        return repo.findAllWithItemsBy().stream().map(mapper::orderToResponse).toList();
     }
 
     public OrderResponseDto getOrder(Long id){
-        return mapper.orderToResponse(getOrderOrThrowError(id));
+        return repo.findWithItemsById(id)
+                .map(mapper::orderToResponse)
+                .orElseThrow(() -> new NoSuchElementException(String.format("Order ID %d Not Found", id)));
     }
 
     /**
@@ -75,6 +76,7 @@ public class MyOrderService {
         if (order != null) order.getItems().forEach(orderItem -> orderItemsService.delete(orderItem.getId()));
 
         createLog(order, Activity.DELETE);
+        batchService.forgetOrderBatches(order);
         repo.delete(order);
     }
 
@@ -103,10 +105,12 @@ public class MyOrderService {
                 )
                 .build();
 
-        logRepo.save(activityLog);
+        logWriter.write(activityLog);
     }
 
+    @Transactional
     public void deleteAll() {
         repo.deleteAll();
+        batchService.forgetAllBatches();
     }
 }
@@ -0,0 +1,166 @@
+package com.brocode.service;
+
+import com.brocode.entity.Batch;
+import com.brocode.entity.Product;
+import com.brocode.repo.BatchRepo;
+import com.brocode.service.dto.OpenBatchDto;
+import com.brocode.utils.ProductOutOfStockException;
+import com.brocode.utils.TransactionHooks;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Resident FIFO of the batches that still have stock, per product id. Batch ids are handed out on
+ * receipt so ascending id order is receipt order.
+ * Taking stock changes the queue immediately and puts it back if the transaction rolls back,
+ * everything that adds stock or batches is applied once its transaction commits.
+ * Each queue carries its own {@link ReentrantLock}, checkouts on virtual threads never hold a monitor.
+ * Quantities are doubles for units like kg, anything within {@link #EPSILON} of zero counts as none.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OpenBatchRegistry {
+    private final BatchRepo batchRepo;
+    public static final double EPSILON = 1e-9;
+
+    private final Map<Long, BatchQueue> openBatches = new ConcurrentHashMap<>();
+
+    public record Allocation(Long batchId, double amount) {
+    }
+
+    /**
+     * Open batch id to the stock left in it, guarded by {@link #lock}.
+     */
+    private static final class BatchQueue extends TreeMap<Long, Double> {
+        private final ReentrantLock lock = new ReentrantLock();
+    }
+
+    @PostConstruct
+    public void warmUp(){
+        List<OpenBatchDto> batches = batchRepo.findAllOpen();
+        batches.stream()
+                .filter(batch -> batch.stockLeft() > EPSILON)
+                .forEach(batch -> queue(batch.productId()).put(batch.batchId(), batch.stockLeft()));
+        log.info("Loaded {} open batches for {} products", batches.size(), openBatches.size());
+    }
+
+    /**
+     * Draws the amount from the product's open batches, the preferred batch first and then oldest first.
+     */
+    public List<Allocation> take(Product product, Long preferredBatchId, double amount){
+        BatchQueue queue = queue(product.getId());
+        List<Allocation> allocations = new ArrayList<>();
+
+        queue.lock.lock();
+        try {
+            List<Long> candidates = new ArrayList<>(queue.keySet());
+            if (preferredBatchId != null && candidates.remove(preferredBatchId)) candidates.addFirst(preferredBatchId);
+
+            double remaining = amount;
+            for (Long batchId : candidates) {
+                if (remaining <= EPSILON) break;
+
+                double taken = Math.min(remaining, queue.get(batchId));
+                allocations.add(new Allocation(batchId, taken));
+                remaining -= taken;
+            }
+
+            if (remaining > EPSILON) throw new ProductOutOfStockException(product.getName(), amount, amount - remaining);
+
+            allocations.forEach(allocation -> subtract(queue, allocation.batchId(), allocation.amount()));
+        } finally {
+            queue.lock.unlock();
+        }
+
+        TransactionHooks.afterRollback(() -> allocations.forEach(allocation ->
+                add(product.getId(), allocation.batchId(), allocation.amount())
+        ));
+        return allocations;
+    }
+
+    public void register(Batch batch){
+        Long productId = batch.getProduct().getId();
+        Long batchId = batch.getId();
+        double stockLeft = batch.getStockLeft();
+
+        TransactionHooks.afterCommit(() -> add(productId, batchId, stockLeft));
+    }
+
+    public void release(Batch batch, double amount){
+        Long productId = batch.getProduct().getId();
+        Long batchId = batch.getId();
+
+        TransactionHooks.afterCommit(() -> add(productId, batchId, amount));
+    }
+
+    public void remove(Batch batch){
+        Long productId = batch.getProduct().getId();
+        Long batchId = batch.getId();
+
+        TransactionHooks.afterCommit(() -> {
+            BatchQueue queue = queue(productId);
+            queue.lock.lock();
+            try {
+                queue.remove(batchId);
+            } finally {
+                queue.lock.unlock();
+            }
+        });
+    }
+
+    /**
+     * Replaces the product's queue with what the database holds, used once a checkout found them out of step.
+     */
+    public void reload(Long productId){
+        List<OpenBatchDto> batches = batchRepo.findOpenByProductId(productId);
+        BatchQueue queue = queue(productId);
+
+        queue.lock.lock();
+        try {
+            queue.clear();
+            batches.stream()
+                    .filter(batch -> batch.stockLeft() > EPSILON)
+                    .forEach(batch -> queue.put(batch.batchId(), batch.stockLeft()));
+        } finally {
+            queue.lock.unlock();
+        }
+    }
+
+    public void removeProduct(Long productId){
+        TransactionHooks.afterCommit(() -> openBatches.remove(productId));
+    }
+
+    public void clear(){
+        TransactionHooks.afterCommit(openBatches::clear);
+    }
+
+    private void add(Long productId, Long batchId, double amount){
+        if (amount <= EPSILON) return;
+
+        BatchQueue queue = queue(productId);
+        queue.lock.lock();
+        try {
+            queue.merge(batchId, amount, Double::sum);
+        } finally {
+            queue.lock.unlock();
+        }
+    }
+
+    private void subtract(BatchQueue queue, Long batchId, double amount){
+        double left = queue.get(batchId) - amount;
+
+        if (left > EPSILON) queue.put(batchId, left);
+        else queue.remove(batchId);
+    }
+
+    private BatchQueue queue(Long productId){
+        return openBatches.computeIfAbsent(productId, id -> new BatchQueue());
+    }
+}
@@ -4,7 +4,6 @@ import com.brocode.entity.ActivityLog;
 import com.brocode.entity.Order;
 import com.brocode.entity.OrderItem;
 import com.brocode.entity.Product;
-import com.brocode.repo.ActivityLogRepo;
 import com.brocode.repo.OrderItemRepo;
 import com.brocode.repo.ProductRepo;
 import com.brocode.service.dto.OrderItemCreateDto;
@@ -22,15 +21,20 @@ import java.util.NoSuchElementException;
 public class OrderItemsService {
     private final OrderItemRepo repo;
     private final OrderItemMapper mapper;
-    private final ActivityLogRepo logRepo;
+    private final ActivityLogWriter logWriter;
     private final ProductRepo productRepo;
+    private final StockStreamService stockStream;
 
     public OrderItem getOrderItemOrThrowError(Long id){
         return repo.findById(id).orElseThrow(() -> new NoSuchElementException("Order Not Found"));
     }
 
     public List<OrderItemResponseDto> getOrders(){
-        return repo.findAll().stream().map(mapper::orderItemToResponse).toList();
+        return repo.findAllResponses();
+    }
+
+    public List<OrderItemResponseDto> getOrders(Long id){
+        return repo.findResponsesById(id);
     }
 
     @Transactional
@@ -42,6 +46,7 @@ public class OrderItemsService {
             product.setInStock(product.getInStock() + item.getAmount());
 
             productRepo.save(product);
+            stockStream.stockChanged(product);
         }
 
         createLog(item, Activity.CREATE);
@@ -56,6 +61,7 @@ public class OrderItemsService {
         product.setInStock(product.getInStock() - orderItem.getAmount());
 
         productRepo.save(product);
+        stockStream.stockChanged(product);
 
         repo.delete(orderItem);
         createLog(orderItem, Activity.DELETE);
@@ -71,6 +77,6 @@ public class OrderItemsService {
                 )
                 .build();
 
-        logRepo.save(activityLog);
+        logWriter.write(activityLog);
     }
 }
@@ -0,0 +1,9 @@
+package com.brocode.service;
+
+import com.brocode.entity.Product;
+
+/**
+ * Published while a product insert, update or delete is flushed, before its transaction commits.
+ */
+public record ProductChangedEvent(Product product, boolean removed) {
+}
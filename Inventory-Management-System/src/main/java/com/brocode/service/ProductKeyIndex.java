@@ -0,0 +1,108 @@
+package com.brocode.service;
+
+import com.brocode.entity.Product;
+import com.brocode.repo.ProductRepo;
+import com.brocode.service.dto.ProductSummaryDto;
+import com.brocode.utils.TransactionHooks;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resident productKey to product summary map for barcode lookups. Every committed insert, update
+ * and delete of a product is applied from its {@link ProductChangedEvent}, keeping the highest
+ * version when two commits of the same product land out of order. A key that is not resident is
+ * looked up once through the unique index on productKey. A delete leaves a marker carrying the
+ * deleted version, so a lookup that read the row before the delete committed cannot bring it back.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductKeyIndex {
+    private final ProductRepo productRepo;
+    private final ProductMapper mapper;
+    private final Map<String, Entry> products = new ConcurrentHashMap<>();
+
+    private record Entry(long productId, long version, ProductSummaryDto summary) {
+        private boolean removed(){
+            return summary == null;
+        }
+
+        /**
+         * The other entry of the same product is older, or equally old and not a removal this one is.
+         * An entry of another product always replaces it, as the key was given to a new product.
+         */
+        private boolean supersedes(Entry other){
+            if (productId != other.productId) return true;
+            if (version != other.version) return version > other.version;
+            return removed() || !other.removed();
+        }
+    }
+
+    @PostConstruct
+    public void warmUp(){
+        productRepo.findAll().forEach(this::put);
+        log.info("Loaded {} product keys", products.size());
+    }
+
+    public Optional<ProductSummaryDto> find(String productKey){
+        String key = normalize(productKey);
+        Entry entry = products.get(key);
+        if (entry != null) return Optional.ofNullable(entry.summary());
+
+        return productRepo.findByProductKey(key).map(this::put).map(Entry::summary);
+    }
+
+    /**
+     * Resolves each distinct key once, in the order given. Keys without a product are left out.
+     */
+    public List<ProductSummaryDto> findAll(Collection<String> productKeys){
+        List<ProductSummaryDto> found = new ArrayList<>();
+        productKeys.stream()
+                .map(ProductKeyIndex::normalize)
+                .distinct()
+                .forEach(key -> find(key).ifPresent(found::add));
+        return found;
+    }
+
+    @EventListener
+    public void productChanged(ProductChangedEvent event){
+        Product product = event.product();
+        if (product.getProductKey() == null) return;
+
+        if (event.removed()) {
+            String key = normalize(product.getProductKey());
+            Entry removal = new Entry(product.getId(), versionOf(product), null);
+            TransactionHooks.afterCommit(() -> merge(key, removal));
+            return;
+        }
+
+        Entry entry = entryOf(product);
+        TransactionHooks.afterCommit(() -> merge(normalize(product.getProductKey()), entry));
+    }
+
+    private Entry put(Product product){
+        return merge(normalize(product.getProductKey()), entryOf(product));
+    }
+
+    private Entry merge(String key, Entry entry){
+        return products.merge(key, entry, (previous, next) -> next.supersedes(previous) ? next : previous);
+    }
+
+    private Entry entryOf(Product product){
+        return new Entry(product.getId(), versionOf(product), mapper.productToSummary(product));
+    }
+
+    private static long versionOf(Product product){
+        return product.getVersion() != null ? product.getVersion() : 0;
+    }
+
+    private static String normalize(String productKey){
+        return productKey.trim().toUpperCase(Locale.ROOT);
+    }
+}
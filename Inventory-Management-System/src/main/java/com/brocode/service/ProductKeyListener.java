@@ -0,0 +1,30 @@
+package com.brocode.service;
+
+import com.brocode.entity.Product;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hands product writes to the application as events. Listeners are built with the entity manager
+ * factory, so anything needing a repository has to listen for the event instead.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductKeyListener {
+    private final ApplicationEventPublisher publisher;
+
+    @PostPersist
+    @PostUpdate
+    public void changed(Product product){
+        publisher.publishEvent(new ProductChangedEvent(product, false));
+    }
+
+    @PostRemove
+    public void removed(Product product){
+        publisher.publishEvent(new ProductChangedEvent(product, true));
+    }
+}
@@ -5,6 +5,7 @@ import com.brocode.entity.Product;
 import com.brocode.repo.CategoryRepo;
 import com.brocode.service.dto.ProductCreateDto;
 import com.brocode.service.dto.ProductResponseDto;
+import com.brocode.service.dto.ProductSummaryDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -35,6 +36,19 @@ public class ProductMapper {
         );
     }
 
+    public ProductSummaryDto productToSummary(Product product) {
+        return new ProductSummaryDto(
+                product.getId(),
+                product.getProductKey(),
+                product.getName(),
+                product.getCategory() != null ? product.getCategory().getId() : null,
+                product.getPrice(),
+                product.getInStock(),
+                product.getUnit(),
+                product.getWarningStockLevel() >= product.getInStock()
+        );
+    }
+
     public Product createToProduct(ProductCreateDto dto) {
         Category category = categoryRepo.findById(dto.categoryId()).orElseThrow(() -> new NoSuchElementException("Category Not Found"));
         return Product.builder()
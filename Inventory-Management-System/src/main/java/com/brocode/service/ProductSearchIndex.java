@@ -0,0 +1,490 @@
+package com.brocode.service;
+
+import com.brocode.entity.Product;
+import com.brocode.repo.ProductRepo;
+import com.brocode.service.dto.ProductSummaryDto;
+import com.brocode.service.dto.SearchPage;
+import com.brocode.utils.TransactionHooks;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+/**
+ * In-memory search over product name, productKey and description.
+ * Each product gets a slot and every distinct term maps to the sorted slots containing it, in a
+ * sorted map for prefix lookups. Every word is also listed under its trigrams, so a misspelt query
+ * token that prefixes nothing is matched to the words within a small edit distance.
+ * A product matches when each query token hits one of its terms, and ranks by how well the tokens
+ * hit and in which field, then by the shorter name. Committed product writes are applied from their
+ * {@link ProductChangedEvent}, a stock-only change just swaps the stored summary.
+ * Searches never lock: posting arrays are replaced rather than changed and a slot is never reused.
+ * Writers share a {@link ReentrantLock} rather than a monitor so a virtual thread waiting on it
+ * gives its carrier back.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductSearchIndex {
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int NAME_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int MAX_PREFIX_TERMS = 256;
+    private static final int MIN_FUZZY_LENGTH = 4;
+    private static final int MAX_TERMS_PER_TRIGRAM = 4096;
+
+    private final ProductRepo productRepo;
+    private final ProductMapper mapper;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private volatile Document[] documents = new Document[1024];
+    private volatile short[] nameLengths = new short[1024];
+    private int slotCount;
+
+    /**
+     * Term to the slots containing it, each entry is {@code slot << 2 | field weight}.
+     */
+    private final NavigableMap<String, int[]> postings = new ConcurrentSkipListMap<>();
+    private final Map<String, Set<String>> trigrams = new ConcurrentHashMap<>();
+    private final Queue<Scratch> scratchPool = new ConcurrentLinkedQueue<>();
+
+    private record Document(long version, String text, Map<String, Integer> terms, ProductSummaryDto summary) {
+    }
+
+    private record Match(int[] slots, float quality) {
+    }
+
+    @PostConstruct
+    public void warmUp(){
+        List<Product> products = productRepo.findAll();
+        Map<String, IntStream.Builder> built = new HashMap<>();
+
+        writeLock.lock();
+        try {
+            products.forEach(product -> {
+                Document document = documentOf(product);
+                int slot = assignSlot(document.summary().id());
+                store(slot, document);
+                document.terms().forEach((term, weight) ->
+                        built.computeIfAbsent(term, key -> IntStream.builder()).add(slot << 2 | weight)
+                );
+            });
+
+            built.forEach((term, slots) -> {
+                postings.put(term, slots.build().toArray());
+                indexTrigrams(term);
+            });
+        } finally {
+            writeLock.unlock();
+        }
+        log.info("Indexed {} products for search, {} terms", slotsById.size(), postings.size());
+    }
+
+    @EventListener
+    public void productChanged(ProductChangedEvent event){
+        Product product = event.product();
+
+        if (event.removed()) {
+            TransactionHooks.afterCommit(() -> remove(product.getId()));
+            return;
+        }
+
+        Document document = documentOf(product);
+        TransactionHooks.afterCommit(() -> index(document));
+    }
+
+    public SearchPage<ProductSummaryDto> search(String query, int page, int size){
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) return new SearchPage<>(List.of(), 0);
+
+        Document[] snapshot = documents;
+        short[] lengths = nameLengths;
+        Scratch scratch = borrow(snapshot.length);
+        try {
+            int found = 0;
+            for (int round = 0; round < tokens.size(); round++) {
+                found = scratch.score(matches(tokens.get(round)), round);
+                if (found == 0) return new SearchPage<>(List.of(), 0);
+            }
+
+            if ((long) page * size >= found) return new SearchPage<>(List.of(), found);
+
+            return new SearchPage<>(scratch.top(snapshot, lengths, found, page, size), found);
+        } finally {
+            scratch.reset();
+            scratchPool.offer(scratch);
+        }
+    }
+
+    /**
+     * Terms one query token hits. An exact term counts in full and a longer term by how much of it
+     * the token covers. Only when nothing starts with the token, words a typo away count for less.
+     */
+    private List<Match> matches(String token){
+        List<Match> matches = new ArrayList<>();
+
+        for (Map.Entry<String, int[]> entry : postings.subMap(token, true, token + Character.MAX_VALUE, false).entrySet()) {
+            String term = entry.getKey();
+            float quality = term.equals(token) ? 1f : 0.5f + 0.4f * token.length() / term.length();
+            matches.add(new Match(entry.getValue(), quality));
+            if (matches.size() == MAX_PREFIX_TERMS) break;
+        }
+
+        if (matches.isEmpty() && token.length() >= MIN_FUZZY_LENGTH && isWord(token)) {
+            similarWords(token).forEach((term, distance) -> {
+                int[] slots = postings.get(term);
+                if (slots != null) matches.add(new Match(slots, distance == 1 ? 0.6f : 0.4f));
+            });
+        }
+        return matches;
+    }
+
+    private Map<String, Integer> similarWords(String token){
+        int maxDistance = token.length() <= 5 ? 1 : 2;
+        Set<String> candidates = new HashSet<>();
+
+        for (String gram : trigramsOf(token)) {
+            Set<String> containing = trigrams.get(gram);
+            if (containing == null || containing.size() > MAX_TERMS_PER_TRIGRAM) continue;
+
+            containing.forEach(term -> {
+                if (Math.abs(term.length() - token.length()) <= maxDistance) candidates.add(term);
+            });
+        }
+
+        Map<String, Integer> similar = new HashMap<>();
+        candidates.forEach(term -> {
+            int distance = editDistance(token, term, maxDistance);
+            if (distance <= maxDistance) similar.put(term, distance);
+        });
+        return similar;
+    }
+
+    private void index(Document document){
+        writeLock.lock();
+        try {
+            Long id = document.summary().id();
+            Integer existing = slotsById.get(id);
+            Document previous = existing != null ? documents[existing] : null;
+            if (previous != null && previous.version() > document.version()) return;
+
+            if (previous != null && previous.text().equals(document.text())) {
+                store(existing, new Document(document.version(), previous.text(), previous.terms(), document.summary()));
+                return;
+            }
+
+            int slot = existing != null ? existing : assignSlot(id);
+            if (previous != null) previous.terms().keySet().forEach(term -> removePosting(term, slot));
+            document.terms().forEach((term, weight) -> addPosting(term, slot << 2 | weight));
+            store(slot, document);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void remove(Long id){
+        writeLock.lock();
+        try {
+            Integer slot = slotsById.remove(id);
+            if (slot == null) return;
+
+            Document previous = documents[slot];
+            documents[slot] = null;
+            if (previous != null) previous.terms().keySet().forEach(term -> removePosting(term, slot));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private int assignSlot(Long id){
+        int slot = slotCount++;
+        if (slot == documents.length) {
+            nameLengths = Arrays.copyOf(nameLengths, slot * 2);
+            documents = Arrays.copyOf(documents, slot * 2);
+        }
+        slotsById.put(id, slot);
+        return slot;
+    }
+
+    /**
+     * Ranking reads name lengths from a flat array, a search touches a document only to return it.
+     */
+    private void store(int slot, Document document){
+        String name = document.summary().name();
+        nameLengths[slot] = (short) Math.min(name != null ? name.length() : 0, Short.MAX_VALUE);
+        documents[slot] = document;
+    }
+
+    private void addPosting(String term, int entry){
+        int[] current = postings.get(term);
+        if (current == null) {
+            postings.put(term, new int[]{entry});
+            indexTrigrams(term);
+            return;
+        }
+
+        int at = -Arrays.binarySearch(current, entry) - 1;
+        if (at < 0) return;
+
+        int[] next = new int[current.length + 1];
+        System.arraycopy(current, 0, next, 0, at);
+        next[at] = entry;
+        System.arraycopy(current, at, next, at + 1, current.length - at);
+        postings.put(term, next);
+    }
+
+    private void removePosting(String term, int slot){
+        int[] current = postings.get(term);
+        if (current == null) return;
+
+        int at = -Arrays.binarySearch(current, slot << 2) - 1;
+        if (at >= current.length || current[at] >>> 2 != slot) return;
+
+        if (current.length == 1) {
+            postings.remove(term);
+            if (isWord(term)) trigramsOf(term).forEach(gram -> {
+                Set<String> containing = trigrams.get(gram);
+                if (containing != null) containing.remove(term);
+            });
+            return;
+        }
+
+        int[] next = new int[current.length - 1];
+        System.arraycopy(current, 0, next, 0, at);
+        System.arraycopy(current, at + 1, next, at, next.length - at);
+        postings.put(term, next);
+    }
+
+    private void indexTrigrams(String term){
+        if (!isWord(term)) return;
+        trigramsOf(term).forEach(gram -> trigrams.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(term));
+    }
+
+    private Document documentOf(Product product){
+        Map<String, Integer> weights = new HashMap<>();
+        tokenize(product.getDescription()).forEach(term -> weights.merge(term, DESCRIPTION_WEIGHT, Math::max));
+        tokenize(product.getName()).forEach(term -> weights.merge(term, NAME_WEIGHT, Math::max));
+        tokenize(product.getProductKey()).forEach(term -> weights.merge(term, NAME_WEIGHT, Math::max));
+
+        long version = product.getVersion() != null ? product.getVersion() : 0;
+        String text = product.getProductKey() + "\n" + product.getName() + "\n" + product.getDescription();
+        return new Document(version, text, weights, mapper.productToSummary(product));
+    }
+
+    private Scratch borrow(int capacity){
+        Scratch scratch = scratchPool.poll();
+        return scratch != null && scratch.capacity() >= capacity ? scratch : new Scratch(capacity);
+    }
+
+    private static List<String> tokenize(String text){
+        if (text == null) return List.of();
+
+        return SEPARATORS.splitAsStream(text.toLowerCase(Locale.ROOT))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * Only words get trigrams, product keys and numbers are matched by prefix alone.
+     */
+    private static boolean isWord(String term){
+        return term.length() >= 3 && term.chars().allMatch(Character::isLetter);
+    }
+
+    /**
+     * Trigrams of the term padded with a space on each side, so the first and last letters count.
+     */
+    private static Set<String> trigramsOf(String term){
+        String padded = " " + term + " ";
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) grams.add(padded.substring(i, i + 3));
+        return grams;
+    }
+
+    /**
+     * Edits between the two words, a swap of neighbouring letters counting as one, or
+     * {@code max + 1} as soon as there are more than max.
+     */
+    private static int editDistance(String a, String b, int max){
+        int[] beforePrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) previous[j] = j;
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], beforePrevious[j - 2] + 1);
+                }
+                rowMin = Math.min(rowMin, current[j]);
+            }
+
+            if (rowMin > max) return max + 1;
+
+            int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[b.length()];
+    }
+
+    /**
+     * Score arrays indexed by slot, pooled so a search allocates nothing in proportion to the
+     * catalogue. {@code round[slot]} counts the query tokens the slot has matched so far, so only
+     * the slots that matched every earlier token can take the next one.
+     */
+    private static final class Scratch {
+        private final float[] total;
+        private final float[] best;
+        private final int[] round;
+        private final int[] first;
+        private final int[] later;
+        private int firstCount;
+        private int[] matched;
+
+        Scratch(int capacity){
+            total = new float[capacity];
+            best = new float[capacity];
+            round = new int[capacity];
+            first = new int[capacity];
+            later = new int[capacity];
+        }
+
+        int capacity(){
+            return total.length;
+        }
+
+        /**
+         * Adds the best hit of one query token to every slot still in the running.
+         * @return how many slots have matched every token so far
+         */
+        int score(List<Match> matches, int tokenRound){
+            matched = tokenRound == 0 ? first : later;
+            int found = 0;
+
+            for (Match match : matches) {
+                for (int entry : match.slots()) {
+                    int slot = entry >>> 2;
+                    if (slot >= total.length || round[slot] != tokenRound) continue;
+
+                    float value = match.quality() * (entry & 3);
+                    if (best[slot] == 0) matched[found++] = slot;
+                    if (value > best[slot]) best[slot] = value;
+                }
+            }
+
+            for (int i = 0; i < found; i++) {
+                int slot = matched[i];
+                total[slot] += best[slot];
+                best[slot] = 0;
+                round[slot] = tokenRound + 1;
+            }
+
+            if (tokenRound == 0) firstCount = found;
+            return found;
+        }
+
+        /**
+         * The requested page of the slots matched by the last token, best first. Only the ranks up
+         * to the end of the page are kept, in a bounded min-heap of rank keys.
+         */
+        List<ProductSummaryDto> top(Document[] snapshot, short[] lengths, int found, int page, int size){
+            int wanted = (int) Math.min((long) (page + 1) * size, found);
+            long[] heap = new long[wanted];
+            int heapSize = 0;
+
+            for (int i = 0; i < found; i++) {
+                int slot = matched[i];
+                if (slot >= lengths.length) continue;
+
+                long key = rankKey(slot, total[slot], lengths[slot]);
+                if (heapSize < wanted) {
+                    heap[heapSize] = key;
+                    siftUp(heap, heapSize++);
+                } else if (key > heap[0]) {
+                    heap[0] = key;
+                    siftDown(heap, heapSize);
+                }
+            }
+
+            long[] ranked = Arrays.copyOf(heap, heapSize);
+            Arrays.sort(ranked);
+
+            List<ProductSummaryDto> items = new ArrayList<>();
+            for (int i = ranked.length - 1 - page * size; i >= 0 && items.size() < size; i--) {
+                int slot = Integer.MAX_VALUE - (int) (ranked[i] & Integer.MAX_VALUE);
+                Document document = slot < snapshot.length ? snapshot[slot] : null;
+                if (document != null) items.add(document.summary());
+            }
+            return items;
+        }
+
+        /**
+         * Every slot scored in later rounds was matched in the first, so clearing those is enough.
+         */
+        void reset(){
+            for (int i = 0; i < firstCount; i++) {
+                int slot = first[i];
+                total[slot] = 0;
+                round[slot] = 0;
+            }
+            firstCount = 0;
+        }
+
+        /**
+         * Score in thousandths, then the shorter name, then the older slot, packed so a bigger key ranks higher.
+         */
+        private static long rankKey(int slot, float score, int nameLength){
+            long scoreBits = Math.min((long) (score * 1000), (1L << 20) - 1);
+            long shortness = 4095 - Math.min(nameLength, 4095);
+            return scoreBits << 43 | shortness << 31 | (Integer.MAX_VALUE - slot);
+        }
+
+        private static void siftUp(long[] heap, int at){
+            while (at > 0) {
+                int parent = (at - 1) / 2;
+                if (heap[parent] <= heap[at]) return;
+                swap(heap, parent, at);
+                at = parent;
+            }
+        }
+
+        private static void siftDown(long[] heap, int size){
+            int at = 0;
+            while (true) {
+                int smallest = at;
+                int left = 2 * at + 1;
+                int right = left + 1;
+                if (left < size && heap[left] < heap[smallest]) smallest = left;
+                if (right < size && heap[right] < heap[smallest]) smallest = right;
+                if (smallest == at) return;
+                swap(heap, smallest, at);
+                at = smallest;
+            }
+        }
+
+        private static void swap(long[] heap, int a, int b){
+            long kept = heap[a];
+            heap[a] = heap[b];
+            heap[b] = kept;
+        }
+    }
+}
@@ -3,12 +3,14 @@ package com.brocode.service;
 import com.brocode.entity.ActivityLog;
 import com.brocode.entity.Order;
 import com.brocode.entity.Product;
-import com.brocode.repo.ActivityLogRepo;
 import com.brocode.repo.OrderItemRepo;
 import com.brocode.repo.ProductRepo;
+import com.brocode.repo.ProductSpecifications;
 import com.brocode.service.dto.*;
 import com.brocode.utils.Activity;
 import com.brocode.utils.IdGenerator;
+import com.brocode.utils.KeysetCursor;
+import com.brocode.utils.PagingProperties;
 import jakarta.persistence.Transient;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -21,10 +23,15 @@ import java.util.*;
 public class ProductService {
     private final ProductMapper mapper;
     private final ProductRepo repo;
-    private final ActivityLogRepo logRepo;
+    private final ActivityLogWriter logWriter;
     private final MyOrderService orderService;
     private final OrderItemsService orderItemsService;
     private final OrderItemRepo orderItemRepo;
+    private final PagingProperties pagingProperties;
+    private final OpenBatchRegistry openBatches;
+    private final StockStreamService stockStream;
+    private final ProductKeyIndex productKeyIndex;
+    private final ProductSearchIndex searchIndex;
 
     public Product getProductOrThrowError(Long id){
         return repo.findById(id).orElseThrow(() -> new NoSuchElementException("Category Not Found"));
@@ -48,13 +55,39 @@ public class ProductService {
     }
 
     public List<ProductResponseDto> getAll(){
-        return repo.findAll().stream().map(mapper::productToResponse).toList();
+        return repo.findAllWithCategoryBy().stream().map(mapper::productToResponse).toList();
+    }
+
+    public KeysetPage<ProductResponseDto> getPage(ProductFilterDto filter, String cursor, Integer size){
+        int pageSize = pagingProperties.resolve(size, cursor);
+
+        List<ProductResponseDto> products = repo.findResponses(
+                ProductSpecifications.matching(filter, KeysetCursor.decode(cursor)),
+                pageSize + 1
+        );
+
+        return KeysetPage.of(products, pageSize, ProductResponseDto::id);
     }
 
     public ProductResponseDto getProduct(Long id){
         return mapper.productToResponse(getProductOrThrowError(id));
     }
 
+    public ProductSummaryDto getByKey(String productKey){
+        return productKeyIndex.find(productKey).orElseThrow(() -> new NoSuchElementException("Product Not Found"));
+    }
+
+    public List<ProductSummaryDto> getByKeys(List<String> productKeys){
+        return productKeyIndex.findAll(productKeys);
+    }
+
+    public SearchPage<ProductSummaryDto> search(String query, Integer page, Integer size){
+        int pageSize = pagingProperties.resolve(size);
+        int pageNumber = page == null || page < 0 ? 0 : page;
+
+        return searchIndex.search(query, pageNumber, pageSize);
+    }
+
     @Transactional
     public ProductResponseDto createProduct(ProductCreateDto dto){
         Product product = repo.save(mapper.createToProduct(dto));
@@ -71,6 +104,7 @@ public class ProductService {
         deleteAvailableOrderItems(id);
         Product product = getProductOrThrowError(id);
         repo.deleteById(id);
+        openBatches.removeProduct(id);
         createLog(product, Activity.DELETE);
     }
 
@@ -100,6 +134,7 @@ public class ProductService {
         product.setCategory(mapper.createToProduct(dto).getCategory());
 
         createLog(product, Activity.MODIFY);
+        stockStream.stockChanged(product);
         return mapper.productToResponse(repo.save(product));
     }
 
@@ -112,10 +147,12 @@ public class ProductService {
                 ))
                 .build();
 
-        logRepo.save(activityLog);
+        logWriter.write(activityLog);
     }
 
+    @Transactional
     public void deleteAll() {
         repo.deleteAll();
+        openBatches.clear();
     }
 }
@@ -0,0 +1,41 @@
+package com.brocode.service;
+
+import com.brocode.entity.Category;
+import com.brocode.entity.Supplier;
+import com.brocode.utils.TransactionHooks;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Evicts categories and suppliers from the second-level cache once a write commits. Products are
+ * written by every checkout and are deliberately left out of the cache.
+ * Hibernate already refreshes the entries it writes itself, this covers rows reached past the
+ * session (bulk deletes, the H2 console) so a stale copy never outlives the service call.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReferenceDataCache {
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void evictCategory(Long id){
+        evict(Category.class, id);
+    }
+
+    public void evictSupplier(Long id){
+        evict(Supplier.class, id);
+    }
+
+    public void evictAll(Class<?> type){
+        TransactionHooks.afterCommit(() -> cache().evict(type));
+    }
+
+    private void evict(Class<?> type, Long id){
+        TransactionHooks.afterCommit(() -> cache().evict(type, id));
+    }
+
+    private Cache cache(){
+        return entityManagerFactory.getCache();
+    }
+}
@@ -1,20 +1,16 @@
 package com.brocode.service;
 
-import com.brocode.entity.*;
-import com.brocode.repo.BatchRepo;
-import com.brocode.repo.ProductRepo;
+import com.brocode.entity.Sale;
+import com.brocode.entity.SaleItem;
+import com.brocode.service.BatchAllocationService.BatchAllocation;
 import com.brocode.service.dto.SaleItemCreateDto;
 import com.brocode.service.dto.SaleItemResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.NoSuchElementException;
-
 @Service
 @RequiredArgsConstructor
 public class SaleItemMapper {
-    private final ProductRepo productRepo;
-    private final BatchRepo batchRepo;
 
     public SaleItemResponseDto saleItemToResponse(SaleItem saleItem) {
         return new SaleItemResponseDto(
@@ -32,16 +28,13 @@ public class SaleItemMapper {
         );
     }
 
-    public SaleItem createToSaleItem(SaleItemCreateDto dto, Sale sale) {
-        Product product = productRepo.findById(dto.productId()).orElseThrow(() -> new NoSuchElementException("Product Not Found"));
-        Batch batch = batchRepo.findById(dto.batchId()).orElseThrow(() -> new NoSuchElementException("Batch Not Found"));
-
+    public SaleItem createToSaleItem(SaleItemCreateDto dto, Sale sale, BatchAllocation allocation) {
         return SaleItem.builder()
-                .amount(dto.amount())
+                .amount(allocation.amount())
                 .salePrice(dto.price())
                 .sale(sale)
-                .batch(batch)
-                .product(product)
+                .batch(allocation.batch())
+                .product(allocation.batch().getProduct())
                 .build();
     }
 }
\ No newline at end of file
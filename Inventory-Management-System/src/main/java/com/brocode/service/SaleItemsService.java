@@ -1,10 +1,10 @@
 package com.brocode.service;
 
 import com.brocode.entity.*;
-import com.brocode.repo.ActivityLogRepo;
 import com.brocode.repo.BatchRepo;
 import com.brocode.repo.ProductRepo;
 import com.brocode.repo.SaleItemRepo;
+import com.brocode.service.BatchAllocationService.BatchAllocation;
 import com.brocode.service.dto.SaleItemCreateDto;
 import com.brocode.service.dto.SaleItemResponseDto;
 import com.brocode.utils.Activity;
@@ -15,31 +15,34 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
 public class SaleItemsService {
     private final SaleItemMapper mapper;
     private final SaleItemRepo repo;
-    private final ActivityLogRepo logRepo;
+    private final ActivityLogWriter logWriter;
     private final ProductRepo productRepo;
     private final BatchRepo batchRepo;
+    private final BatchAllocationService allocationService;
+    private final OpenBatchRegistry openBatches;
+    private final DailySalesRollupService rollupService;
+    private final StockStreamService stockStream;
 
     public List<SaleItemResponseDto> getSaleItems(){
-        return repo.findAll().stream().map(mapper::saleItemToResponse).toList();
+        return repo.findAllResponses();
     }
 
-    public Batch getNextAvailableBatch(SaleItemCreateDto dto){
-        List<Batch> batches = batchRepo.findAll()
-                .stream()
-                .filter(batch1 -> Objects.equals(batch1.getProduct().getId(), dto.productId()))
-                .filter(batch1 -> batch1.getStockLeft() > 0)
-                .toList();
+    public List<SaleItemResponseDto> getSaleItems(Long id){
+        return repo.findResponsesById(id);
+    }
 
-        if (batches.isEmpty()) throw new NoSuchElementException("Product Out Of Stock");
+    public List<SaleItemResponseDto> getBatchSaleItems(Long batchId){
+        return repo.findResponsesByBatchId(batchId);
+    }
 
-        return batches.getFirst();
+    public List<SaleItemResponseDto> getProductSaleItems(Long productId){
+        return repo.findResponsesByProductId(productId);
     }
 
     public void processProduct(SaleItemCreateDto dto, Product product){
@@ -55,46 +58,27 @@ public class SaleItemsService {
         product.setInStock(newProductInstock);
 
         productRepo.save(product);
+        stockStream.stockChanged(product);
     }
 
+    /**
+     * Sells dto.amount of the product, one SaleItem row per batch the amount was drawn from.
+     */
     @Transactional
     public SaleItemResponseDto createSaleItems(SaleItemCreateDto dto, Sale sale) {
-        SaleItem item = mapper.createToSaleItem(dto, sale);
-        Batch batch = item.getBatch();
-
-        Double saleAmount = dto.amount();
-
-
-        while(saleAmount > 0){
+        Product product = productRepo.findById(dto.productId()).orElseThrow(() -> new NoSuchElementException("Product Not Found"));
 
-            if (batch.getStockLeft() < 1) batch = getNextAvailableBatch(dto);
-            Double batchAmount = batch.getStockLeft();
-
-            double amountSold = 0;
-            SaleItem saveItem = SaleItem
-                    .builder()
-                    .product(item.getProduct())
-                    .salePrice(dto.price())
-                    .batch(batch)
-                    .sale(item.getSale())
-                    .build();
-
-            while(batchAmount > 0 && saleAmount > 0){
-                amountSold++;
-                batchAmount--;
-                saleAmount--;
-            }
-
-            saveItem.setAmount(amountSold);
-            batch.setStockLeft(batchAmount);
+        processProduct(dto, product);
 
-            repo.save(saveItem);
-            batchRepo.save(batch);
-        }
+        List<BatchAllocation> allocations = allocationService.allocate(product, dto.batchId(), dto.amount());
 
-        Product product = item.getProduct();
+        List<SaleItem> items = repo.saveAll(allocations.stream()
+                .map(allocation -> mapper.createToSaleItem(dto, sale, allocation))
+                .toList());
+        batchRepo.saveAll(allocations.stream().map(BatchAllocation::batch).toList());
+        items.forEach(saleItem -> rollupService.add(sale.getSaleDate(), saleItem));
 
-        processProduct(dto, product);
+        SaleItem item = items.getFirst();
 
         createLog(item, Activity.CREATE);
         return mapper.saleItemToResponse(item);
@@ -111,6 +95,9 @@ public class SaleItemsService {
 
         productRepo.save(product);
         batchRepo.save(batch);
+        stockStream.stockChanged(product);
+        openBatches.release(batch, item.getAmount());
+        rollupService.subtract(item.getSale().getSaleDate(), item);
 
         repo.delete(item);
 
@@ -127,7 +114,7 @@ public class SaleItemsService {
                 )
                 .build();
 
-        logRepo.save(activityLog);
+        logWriter.write(activityLog);
     }
 
 }
@@ -2,16 +2,17 @@ package com.brocode.service;
 
 import com.brocode.entity.ActivityLog;
 import com.brocode.entity.Sale;
-import com.brocode.repo.ActivityLogRepo;
 import com.brocode.repo.ProductRepo;
+import com.brocode.repo.SaleSpecifications;
 import com.brocode.repo.SalesRepo;
-import com.brocode.service.dto.SaleCreateDto;
-import com.brocode.service.dto.SaleItemCreateDto;
-import com.brocode.service.dto.SaleResponseDto;
+import com.brocode.service.dto.*;
 import com.brocode.utils.Activity;
 import com.brocode.utils.IdGenerator;
+import com.brocode.utils.KeysetCursor;
+import com.brocode.utils.PagingProperties;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -22,9 +23,11 @@ import java.util.NoSuchElementException;
 public class SaleService {
     private final SaleMapper mapper;
     private final SalesRepo repo;
-    private final ActivityLogRepo logRepo;
+    private final ActivityLogWriter logWriter;
     private final SaleItemsService saleItemsService;
     private final ProductRepo productRepo;
+    private final PagingProperties pagingProperties;
+    private final DailySalesRollupService rollupService;
 
     public Sale getSaleOrThrowError(Long id){
         return repo.findById(id).orElseThrow(() -> new NoSuchElementException("Category Not Found"));
@@ -38,8 +41,19 @@ public class SaleService {
         return repo.findAll().stream().map(mapper::saleToResponse).toList();
     }
 
+    public KeysetPage<SaleResponseDto> getPage(SaleFilterDto filter, String cursor, Integer size){
+        int pageSize = pagingProperties.resolve(size, cursor);
+
+        List<Sale> sales = repo.findBy(
+                SaleSpecifications.matching(filter, KeysetCursor.decode(cursor)),
+                query -> query.sortBy(Sort.by(Sort.Direction.DESC, "id")).limit(pageSize + 1).all()
+        );
+
+        return KeysetPage.of(sales, pageSize, Sale::getId).map(mapper::saleToResponse);
+    }
+
     public SaleResponseDto getSale(Long id){
-        return mapper.saleToResponse(getSaleOrThrowError(id));
+        return repo.findWithItemsById(id).map(mapper::saleToResponse).orElseThrow(() -> new NoSuchElementException("Category Not Found"));
     }
 
     @Transactional
@@ -67,6 +81,7 @@ public class SaleService {
     public SaleResponseDto editSale(Long id, SaleCreateDto dto){
         Sale sale = getSaleOrThrowError(id);
 
+        rollupService.move(sale.getItems(), sale.getSaleDate(), dto.saleDate());
         sale.setSaleDate(dto.saleDate());
         sale.setTotalAmount(dto.totalAmount());
 
@@ -85,10 +100,12 @@ public class SaleService {
                 ))
                 .build();
 
-        logRepo.save(activityLog);
+        logWriter.write(activityLog);
     }
 
+    @Transactional
     public void deleteAll() {
         repo.deleteAll();
+        rollupService.clear();
     }
 }
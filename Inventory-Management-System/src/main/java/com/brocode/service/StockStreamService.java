@@ -0,0 +1,138 @@
+package com.brocode.service;
+
+import com.brocode.entity.Product;
+import com.brocode.service.dto.StockChangeDto;
+import com.brocode.utils.StockStreamProperties;
+import com.brocode.utils.TransactionHooks;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ * Pushes committed stock levels to SSE subscribers. Changes are collected per product and sent
+ * once per coalesce-window with only the latest level of each product. Every subscriber has its
+ * own bounded buffer drained by a virtual thread, a subscriber whose buffer fills up is dropped.
+ * Buffers hold the immutable payload; each sender builds its own SSE event, as builders are not thread-safe.
+ */
+@Slf4j
+@Service
+public class StockStreamService {
+    private final StockStreamProperties properties;
+    private final Map<Long, PendingChange> pending = new ConcurrentHashMap<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("stock-stream").daemon().factory()
+    );
+
+    private record PendingChange(long version, StockChangeDto change) {
+    }
+
+    private record Outbound(List<StockChangeDto> changes) {
+        private static final Outbound KEEP_ALIVE = new Outbound(null);
+
+        private SseEmitter.SseEventBuilder toEvent(){
+            return changes == null ? SseEmitter.event().comment("keep-alive") : SseEmitter.event().name("stock").data(changes);
+        }
+    }
+
+    private record Subscriber(SseEmitter emitter, BlockingQueue<Outbound> buffer, Thread sender) {
+    }
+
+    public StockStreamService(StockStreamProperties properties){
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void start(){
+        long window = properties.coalesceWindow().toMillis();
+        long heartbeat = properties.heartbeat().toMillis();
+
+        scheduler.scheduleWithFixedDelay(this::flush, window, window, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(() -> broadcast(Outbound.KEEP_ALIVE), heartbeat, heartbeat, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop(){
+        scheduler.shutdownNow();
+        subscribers.forEach(this::drop);
+    }
+
+    /**
+     * Records the product's current stock level, published once the surrounding transaction commits.
+     */
+    public void stockChanged(Product product){
+        long version = product.getVersion() != null ? product.getVersion() : 0;
+        StockChangeDto change = new StockChangeDto(
+                product.getId(),
+                product.getInStock(),
+                product.getWarningStockLevel() >= product.getInStock()
+        );
+
+        TransactionHooks.afterCommit(() -> pending.merge(
+                change.productId(),
+                new PendingChange(version, change),
+                (previous, next) -> next.version() >= previous.version() ? next : previous
+        ));
+    }
+
+    public SseEmitter subscribe(){
+        SseEmitter emitter = new SseEmitter(properties.timeout().toMillis());
+        BlockingQueue<Outbound> buffer = new ArrayBlockingQueue<>(properties.subscriberBuffer());
+        Subscriber subscriber = new Subscriber(emitter, buffer, Thread.ofVirtual().unstarted(() -> send(emitter, buffer)));
+
+        emitter.onCompletion(() -> drop(subscriber));
+        emitter.onTimeout(() -> drop(subscriber));
+        emitter.onError(ex -> drop(subscriber));
+
+        subscribers.add(subscriber);
+        subscriber.sender().start();
+        return emitter;
+    }
+
+    private void flush(){
+        if (pending.isEmpty()) return;
+
+        List<StockChangeDto> changes = new ArrayList<>();
+        pending.keySet().forEach(productId -> {
+            PendingChange change = pending.remove(productId);
+            if (change != null) changes.add(change.change());
+        });
+
+        broadcast(new Outbound(List.copyOf(changes)));
+    }
+
+    private void broadcast(Outbound event){
+        subscribers.forEach(subscriber -> {
+            if (!subscriber.buffer().offer(event)) {
+                log.debug("Dropping stock stream subscriber with a full buffer");
+                drop(subscriber);
+            }
+        });
+    }
+
+    private void send(SseEmitter emitter, BlockingQueue<Outbound> buffer){
+        try {
+            while (!Thread.currentThread().isInterrupted()) emitter.send(buffer.take().toEvent());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void drop(Subscriber subscriber){
+        if (!subscribers.remove(subscriber)) return;
+
+        subscriber.sender().interrupt();
+        subscriber.emitter().complete();
+    }
+}
@@ -0,0 +1,61 @@
+package com.brocode.service;
+
+import com.brocode.utils.CheckoutProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Fixed set of locks that product ids are hashed onto. Checkouts hold the stripes of the products
+ * they touch, so sales of unrelated products never wait on each other while sales of the same
+ * product queue up instead of failing their version check.
+ */
+@Service
+public class StripedLockManager {
+    private final ReentrantLock[] stripes;
+    private final Timer lockWait;
+
+    public StripedLockManager(CheckoutProperties properties, MeterRegistry meterRegistry){
+        if (properties.lockStripes() < 1) throw new IllegalArgumentException("inventory.checkout.lock-stripes must be at least 1");
+
+        stripes = new ReentrantLock[properties.lockStripes()];
+        for (int i = 0; i < stripes.length; i++) stripes[i] = new ReentrantLock();
+
+        lockWait = Timer.builder("inventory.checkout.lock.wait")
+                .description("Time checkouts spend waiting for their product lock stripes")
+                .tag("stripes", String.valueOf(stripes.length))
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the action holding the stripes of every product id given. Stripes are taken in ascending
+     * stripe order, so two checkouts can never hold one stripe each and wait on the other.
+     */
+    public <T> T withLocks(Collection<Long> productIds, Supplier<T> action){
+        int[] held = productIds.stream().mapToInt(this::stripeOf).distinct().sorted().toArray();
+
+        long start = System.nanoTime();
+        int locked = 0;
+        try {
+            for (int stripe : held) {
+                stripes[stripe].lock();
+                locked++;
+            }
+            lockWait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            return action.get();
+        } finally {
+            for (int i = locked - 1; i >= 0; i--) stripes[held[i]].unlock();
+        }
+    }
+
+    private int stripeOf(Long productId){
+        int hash = productId.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), stripes.length);
+    }
+}
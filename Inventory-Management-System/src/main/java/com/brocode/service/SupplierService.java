@@ -2,7 +2,6 @@ package com.brocode.service;
 
 import com.brocode.entity.ActivityLog;
 import com.brocode.entity.Supplier;
-import com.brocode.repo.ActivityLogRepo;
 import com.brocode.repo.SupplierRepo;
 import com.brocode.service.dto.SupplierCreateDto;
 import com.brocode.service.dto.SupplierResponseDto;
@@ -19,18 +18,19 @@ import java.util.NoSuchElementException;
 public class SupplierService {
     private final SupplierMapper mapper;
     private final SupplierRepo repo;
-    private final ActivityLogRepo logRepo;
+    private final ActivityLogWriter logWriter;
+    private final ReferenceDataCache referenceCache;
 
     private Supplier getSupplierOrThrowError(Long id){
         return repo.findById(id).orElseThrow(() -> new NoSuchElementException("Category Not Found"));
     }
 
     public List<SupplierResponseDto> getAll(){
-        return repo.findAll().stream().map(mapper::supplierToResponse).toList();
+        return repo.findAllWithOrdersBy().stream().map(mapper::supplierToResponse).toList();
     }
 
     public SupplierResponseDto getSupplier(Long id){
-        return mapper.supplierToResponse(getSupplierOrThrowError(id));
+        return repo.findWithOrdersById(id).map(mapper::supplierToResponse).orElseThrow(() -> new NoSuchElementException("Category Not Found"));
     }
 
     @Transactional
@@ -44,6 +44,7 @@ public class SupplierService {
     public void delete(Long id){
         Supplier supplier = getSupplierOrThrowError(id);
         createLog(supplier, Activity.DELETE);
+        referenceCache.evictSupplier(id);
     }
 
     @Transactional
@@ -56,6 +57,7 @@ public class SupplierService {
         supplier.setContactPerson(dto.contactName());
 
         createLog(supplier, Activity.MODIFY);
+        referenceCache.evictSupplier(id);
         return mapper.supplierToResponse(repo.save(supplier));
     }
 
@@ -68,10 +70,11 @@ public class SupplierService {
                 ))
                 .build();
 
-        logRepo.save(activityLog);
+        logWriter.write(activityLog);
     }
 
     public void deleteAll() {
         repo.deleteAll();
+        referenceCache.evictAll(Supplier.class);
     }
 }
@@ -0,0 +1,85 @@
+package com.brocode.service;
+
+import com.brocode.entity.*;
+import com.brocode.repo.SyncQueryRepo;
+import com.brocode.repo.TombstoneRepo;
+import com.brocode.service.dto.SyncResponseDto;
+import com.brocode.utils.PagingProperties;
+import com.brocode.utils.SyncCursor;
+import com.brocode.utils.SyncProperties;
+import com.brocode.utils.SyncType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class SyncService {
+    private final SyncQueryRepo syncQueryRepo;
+    private final TombstoneRepo tombstoneRepo;
+    private final PagingProperties pagingProperties;
+    private final SyncProperties syncProperties;
+    private final ProductMapper productMapper;
+    private final MyCategoryMapper categoryMapper;
+    private final SupplierMapper supplierMapper;
+    private final OrderMapper orderMapper;
+    private final OrderItemMapper orderItemMapper;
+    private final SaleMapper saleMapper;
+    private final SaleItemMapper saleItemMapper;
+    private final BatchMapper batchMapper;
+
+    /**
+     * Rows of the type upserted or deleted since the cursor. Rows younger than the settle time are
+     * held back, so a transaction that stamped its rows earlier but commits later is not skipped.
+     * This only holds for transactions shorter than the settle time; rows of a longer one are
+     * silently missed by every client whose cursor passed their timestamp before the commit.
+     */
+    public SyncResponseDto sync(String path, String cursor, Integer size){
+        SyncType type = SyncType.fromPath(path);
+        SyncCursor from = SyncCursor.decode(cursor);
+        int pageSize = pagingProperties.resolve(size);
+        LocalDateTime upTo = LocalDateTime.now(ZoneId.of("Africa/Harare")).minus(syncProperties.settleTime());
+
+        List<? extends BaseEntity> changed = syncQueryRepo.findChanged(type.entityClass(), from.changedAt(), from.changedId(), upTo, pageSize + 1);
+        List<Tombstone> deleted = tombstoneRepo.findDeleted(type.name(), from.deletedAt(), from.deletedId(), upTo, Limit.of(pageSize + 1));
+
+        boolean hasMore = changed.size() > pageSize || deleted.size() > pageSize;
+        if (changed.size() > pageSize) changed = changed.subList(0, pageSize);
+        if (deleted.size() > pageSize) deleted = deleted.subList(0, pageSize);
+
+        BaseEntity lastChanged = changed.isEmpty() ? null : changed.getLast();
+        Tombstone lastDeleted = deleted.isEmpty() ? null : deleted.getLast();
+
+        SyncCursor next = new SyncCursor(
+                lastChanged != null ? lastChanged.getLastModifiedAt() : from.changedAt(),
+                lastChanged != null ? lastChanged.getId() : from.changedId(),
+                lastDeleted != null ? lastDeleted.getDeletedAt() : from.deletedAt(),
+                lastDeleted != null ? lastDeleted.getId() : from.deletedId()
+        );
+
+        return new SyncResponseDto(
+                changed.stream().map(this::toResponse).toList(),
+                deleted.stream().map(Tombstone::getEntityId).toList(),
+                next.encode(),
+                hasMore
+        );
+    }
+
+    private Object toResponse(BaseEntity entity){
+        return switch (entity) {
+            case Product product -> productMapper.productToResponse(product);
+            case Category category -> categoryMapper.categoryToResponse(category);
+            case Supplier supplier -> supplierMapper.supplierToResponse(supplier);
+            case Order order -> orderMapper.orderToResponse(order);
+            case OrderItem item -> orderItemMapper.orderItemToResponse(item);
+            case Sale sale -> saleMapper.saleToResponse(sale);
+            case SaleItem item -> saleItemMapper.saleItemToResponse(item);
+            case Batch batch -> batchMapper.batchToResponse(batch);
+            default -> throw new IllegalArgumentException("Type Is Not Synced");
+        };
+    }
+}
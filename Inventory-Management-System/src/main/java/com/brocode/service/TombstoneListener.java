@@ -0,0 +1,35 @@
+package com.brocode.service;
+
+import com.brocode.entity.BaseEntity;
+import com.brocode.utils.SyncType;
+import jakarta.persistence.PostRemove;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Records a tombstone for every synced entity removed through JPA, cascades included. The insert
+ * goes through JDBC on the same transaction, entity operations are not allowed inside a callback.
+ */
+@Component
+@RequiredArgsConstructor
+public class TombstoneListener {
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostRemove
+    public void removed(BaseEntity entity){
+        SyncType type = SyncType.of(entity);
+        if (type == null) return;
+
+        jdbcTemplate.update(
+                "insert into tombstone (entity_type, entity_id, deleted_at) values (?, ?, ?)",
+                type.name(),
+                entity.getId(),
+                Timestamp.valueOf(LocalDateTime.now(ZoneId.of("Africa/Harare")))
+        );
+    }
+}
@@ -2,6 +2,8 @@ package com.brocode.service;
 
 import com.brocode.entity.User;
 import com.brocode.repo.UserRepo;
+import com.brocode.security.AuthenticationCache;
+import com.brocode.security.RefreshTokenService;
 import com.brocode.service.dto.PasswordChangeDto;
 import com.brocode.service.dto.UserCreateDto;
 import com.brocode.service.dto.UserEditDto;
@@ -21,6 +23,8 @@ public class UserService {
     private final UserRepo repo;
     private final UserMapper mapper;
     private final PasswordEncoder passwordEncoder;
+    private final AuthenticationCache authenticationCache;
+    private final RefreshTokenService refreshTokens;
 
     public List<UserResponseDto> getUsers(){
         return repo.findAllByOrderByCreatedAtDesc()
@@ -52,14 +56,15 @@ public class UserService {
         user.setRoles(dto.roles());
 
         repo.save(user);
+        authenticationCache.evict(username);
         return true;
     }
 
     public void delete(Long id) {
-        if (!repo.existsById(id)) {
-            throw new EntityNotFoundException("User with ID " + id + " not found");
-        }
+        User user = repo.findById(id).orElseThrow(() -> new EntityNotFoundException("User with ID " + id + " not found"));
         repo.deleteById(id);
+        authenticationCache.evict(user.getUsername());
+        refreshTokens.revokeAll(user.getUsername());
     }
 
     public void changePassword(PasswordChangeDto dto, String username) {
@@ -72,6 +77,8 @@ public class UserService {
         user.setPassword(passwordEncoder.encode(dto.newPassword()));
 
         repo.save(user);
+        authenticationCache.evict(username);
+        refreshTokens.revokeAll(username);
     }
 
     public void resetPassword(String username){
@@ -79,6 +86,8 @@ public class UserService {
         user.setPassword(passwordEncoder.encode("123456"));
 
         repo.save(user);
+        authenticationCache.evict(username);
+        refreshTokens.revokeAll(username);
     }
 
     public void enableUser(Long id) {
@@ -86,5 +95,6 @@ public class UserService {
 
         user.setEnabled(true);
         repo.save(user);
+        authenticationCache.evict(user.getUsername());
     }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.brocode.service.dto;
+
+import com.brocode.utils.Activity;
+
+import java.time.LocalDate;
+
+public record ActivityLogFilterDto(
+        Activity activity,
+        String createdBy,
+        LocalDate dateCreated,
+        String hiddenUser
+) {
+}
@@ -0,0 +1,11 @@
+package com.brocode.service.dto;
+
+import java.time.LocalDate;
+
+public record DailySalesResponseDto(
+        LocalDate saleDate,
+        Double quantity,
+        Double revenue,
+        Double cost
+) {
+}
@@ -0,0 +1,19 @@
+package com.brocode.service.dto;
+
+import java.util.List;
+
+public record DashboardResponseDto(
+        long totalProducts,
+        long totalCategories,
+        long totalSuppliers,
+        long totalOrders,
+        long totalSales,
+        long lowStockCount,
+        double totalRevenue,
+        double todayRevenue,
+        double totalInventoryValue,
+        List<ProductResponseDto> lowStockProducts,
+        List<SaleResponseDto> recentSales,
+        List<OrderResponseDto> recentOrders
+) {
+}
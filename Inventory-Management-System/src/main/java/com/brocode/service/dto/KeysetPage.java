@@ -0,0 +1,29 @@
+package com.brocode.service.dto;
+
+import com.brocode.utils.KeysetCursor;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record KeysetPage<T>(
+        List<T> items,
+        String nextCursor
+) {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /**
+     * @param rows query result fetched with a limit of {@code size + 1}
+     * @param size requested page size
+     * @param idOf key the rows are ordered by
+     */
+    public static <T> KeysetPage<T> of(List<T> rows, int size, Function<T, Long> idOf){
+        if (rows.size() <= size) return new KeysetPage<>(rows, null);
+
+        List<T> page = rows.subList(0, size);
+        return new KeysetPage<>(page, KeysetCursor.encode(idOf.apply(page.getLast())));
+    }
+
+    public <R> KeysetPage<R> map(Function<T, R> mapper){
+        return new KeysetPage<>(items.stream().map(mapper).toList(), nextCursor);
+    }
+}
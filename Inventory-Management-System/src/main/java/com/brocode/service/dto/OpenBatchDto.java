@@ -0,0 +1,8 @@
+package com.brocode.service.dto;
+
+public record OpenBatchDto(
+        Long batchId,
+        Long productId,
+        Double stockLeft
+) {
+}
@@ -0,0 +1,10 @@
+package com.brocode.service.dto;
+
+public record ProductFilterDto(
+        String productName,
+        Long categoryId,
+        Boolean lowStock,
+        Double lowerBoundaryPrice,
+        Double higherBoundaryPrice
+) {
+}
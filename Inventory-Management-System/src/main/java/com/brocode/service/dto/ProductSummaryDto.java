@@ -0,0 +1,13 @@
+package com.brocode.service.dto;
+
+public record ProductSummaryDto(
+        Long id,
+        String productKey,
+        String name,
+        Long categoryId,
+        Double price,
+        Double inStock,
+        String unit,
+        boolean stockLevelLow
+) {
+}
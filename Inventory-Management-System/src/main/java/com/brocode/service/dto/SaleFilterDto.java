@@ -0,0 +1,12 @@
+package com.brocode.service.dto;
+
+import java.time.LocalDate;
+
+public record SaleFilterDto(
+        Long categoryId,
+        LocalDate saleDateStart,
+        LocalDate saleDateEnd,
+        Double lowerSalesBoundary,
+        Double higherSalesBoundary
+) {
+}
@@ -0,0 +1,10 @@
+package com.brocode.service.dto;
+
+import java.util.List;
+
+public record SearchPage<T>(
+        List<T> items,
+        int total
+) {
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+}
@@ -0,0 +1,8 @@
+package com.brocode.service.dto;
+
+public record StockChangeDto(
+        Long productId,
+        Double inStock,
+        boolean stockLevelLow
+) {
+}
@@ -0,0 +1,11 @@
+package com.brocode.service.dto;
+
+import java.util.List;
+
+public record SyncResponseDto(
+        List<?> upserts,
+        List<Long> deleted,
+        String cursor,
+        boolean hasMore
+) {
+}
@@ -0,0 +1,14 @@
+package com.brocode.utils;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("inventory.activity-log")
+public record ActivityLogProperties(
+        int capacity,
+        int batchSize,
+        Duration flushInterval,
+        Duration offerTimeout
+) {
+}
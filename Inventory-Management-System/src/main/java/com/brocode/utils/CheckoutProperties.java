@@ -0,0 +1,13 @@
+package com.brocode.utils;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("inventory.checkout")
+public record CheckoutProperties(
+        int maxAttempts,
+        Duration backoff,
+        int lockStripes
+) {
+}
@@ -0,0 +1,22 @@
+package com.brocode.utils;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.LocalDate;
+
+@ConfigurationProperties("inventory.dataset")
+public record DatasetProperties(
+        long seed,
+        long lineItems,
+        int products,
+        int categories,
+        int suppliers,
+        int days,
+        LocalDate endDate,
+        double zipfExponent,
+        double averageBasket,
+        int maxBasket,
+        int batchSize,
+        int threads
+) {
+}
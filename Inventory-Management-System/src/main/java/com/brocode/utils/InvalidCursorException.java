@@ -0,0 +1,7 @@
+package com.brocode.utils;
+
+public class InvalidCursorException extends IllegalArgumentException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
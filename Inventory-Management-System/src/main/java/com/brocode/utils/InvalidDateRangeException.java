@@ -0,0 +1,7 @@
+package com.brocode.utils;
+
+public class InvalidDateRangeException extends IllegalArgumentException {
+    public InvalidDateRangeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,28 @@
+package com.brocode.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset pagination. The token wraps the id of the last
+ * row of a page, the next page then continues strictly below that id.
+ */
+public class KeysetCursor {
+
+    public static String encode(Long id){
+        if (id == null) return null;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Long decode(String cursor){
+        if (cursor == null || cursor.isBlank()) return null;
+
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Invalid Page Cursor");
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.brocode.utils;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("inventory.paging")
+public record PagingProperties(
+        int defaultSize,
+        int maxSize
+) {
+    /**
+     * Size used for list requests that ask for neither a size nor a cursor, so clients that do not
+     * follow the next-page cursor still get every row. One below the maximum so size + 1 still fits.
+     */
+    public static final int UNPAGED = Integer.MAX_VALUE - 1;
+
+    public int resolve(Integer requestedSize, String cursor){
+        if (requestedSize == null && (cursor == null || cursor.isBlank())) return UNPAGED;
+        return resolve(requestedSize);
+    }
+
+    public int resolve(Integer requestedSize){
+        if (requestedSize == null || requestedSize < 1) return defaultSize;
+        return Math.min(requestedSize, maxSize);
+    }
+}
@@ -0,0 +1,14 @@
+package com.brocode.utils;
+
+import lombok.Getter;
+import org.springframework.dao.ConcurrencyFailureException;
+
+@Getter
+public class StockConflictException extends ConcurrencyFailureException {
+    private final Long productId;
+
+    public StockConflictException(Long productId, Long batchId) {
+        super(String.format("Batch ID %d of Product ID %d was changed by another checkout", batchId, productId));
+        this.productId = productId;
+    }
+}
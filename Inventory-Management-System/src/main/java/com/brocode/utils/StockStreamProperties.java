@@ -0,0 +1,14 @@
+package com.brocode.utils;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("inventory.stock-stream")
+public record StockStreamProperties(
+        Duration coalesceWindow,
+        int subscriberBuffer,
+        Duration heartbeat,
+        Duration timeout
+) {
+}
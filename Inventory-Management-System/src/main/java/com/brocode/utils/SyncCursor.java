@@ -0,0 +1,40 @@
+package com.brocode.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque position in the change stream of one type. It holds the (lastModifiedAt, id) of the last
+ * upserted row and the (deletedAt, id) of the last tombstone the client has seen.
+ */
+public record SyncCursor(
+        LocalDateTime changedAt,
+        Long changedId,
+        LocalDateTime deletedAt,
+        Long deletedId
+) {
+    public static final SyncCursor START = new SyncCursor(
+            LocalDateTime.of(1970, 1, 1, 0, 0), 0L,
+            LocalDateTime.of(1970, 1, 1, 0, 0), 0L
+    );
+
+    public String encode(){
+        String raw = String.join("|", changedAt.toString(), changedId.toString(), deletedAt.toString(), deletedId.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SyncCursor decode(String cursor){
+        if (cursor == null || cursor.isBlank()) return START;
+
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            return new SyncCursor(
+                    LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]),
+                    LocalDateTime.parse(parts[2]), Long.parseLong(parts[3])
+            );
+        } catch (RuntimeException ex) {
+            throw new InvalidCursorException("Invalid Sync Cursor");
+        }
+    }
+}
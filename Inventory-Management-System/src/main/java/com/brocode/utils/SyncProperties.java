@@ -0,0 +1,15 @@
+package com.brocode.utils;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * settleTime must exceed the longest write transaction: a row committed more than settleTime after
+ * it was stamped lands behind cursors clients already hold and is never synced to them.
+ */
+@ConfigurationProperties("inventory.sync")
+public record SyncProperties(
+        Duration settleTime
+) {
+}
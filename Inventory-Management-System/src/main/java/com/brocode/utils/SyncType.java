@@ -0,0 +1,42 @@
+package com.brocode.utils;
+
+import com.brocode.entity.*;
+
+import java.util.Arrays;
+
+public enum SyncType {
+    PRODUCTS("products", Product.class),
+    CATEGORIES("categories", Category.class),
+    SUPPLIERS("suppliers", Supplier.class),
+    ORDERS("orders", Order.class),
+    ORDER_ITEMS("order-items", OrderItem.class),
+    SALES("sales", Sale.class),
+    SALE_ITEMS("sale-items", SaleItem.class),
+    BATCHES("batches", Batch.class);
+
+    private final String path;
+    private final Class<? extends BaseEntity> entityClass;
+
+    SyncType(String path, Class<? extends BaseEntity> entityClass) {
+        this.path = path;
+        this.entityClass = entityClass;
+    }
+
+    public Class<? extends BaseEntity> entityClass() {
+        return entityClass;
+    }
+
+    public static SyncType fromPath(String path){
+        return Arrays.stream(values())
+                .filter(type -> type.path.equalsIgnoreCase(path))
+                .findFirst()
+                .orElseThrow(() -> new UnknownSyncTypeException(String.format("Unknown Sync Type %s", path)));
+    }
+
+    public static SyncType of(Object entity){
+        return Arrays.stream(values())
+                .filter(type -> type.entityClass.isInstance(entity))
+                .findFirst()
+                .orElse(null);
+    }
+}
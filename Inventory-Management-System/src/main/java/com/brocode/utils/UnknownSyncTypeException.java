@@ -0,0 +1,7 @@
+package com.brocode.utils;
+
+public class UnknownSyncTypeException extends IllegalArgumentException {
+    public UnknownSyncTypeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,164 @@
+package com.brocode.benchmark;
+
+import com.brocode.InventoryManagementSystemApplication;
+import com.brocode.entity.User;
+import com.brocode.repo.UserRepo;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+
+/**
+ * The application booted on a random local port over an H2 file in a temporary directory, with an
+ * admin user to sign requests with. Closing it stops the server and deletes the database.
+ */
+public class BenchmarkApp implements AutoCloseable {
+    public static final String USERNAME = "bench";
+    public static final String PASSWORD = "bench";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final ConfigurableApplicationContext context;
+    private final Path dataDir;
+    private final HttpClient client;
+    private final String baseUrl;
+
+    private BenchmarkApp(ConfigurableApplicationContext context, Path dataDir){
+        this.context = context;
+        this.dataDir = dataDir;
+        this.baseUrl = "http://127.0.0.1:" + ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * Boots the application with the given Spring profiles. The settings here are passed as command
+     * line arguments so they win over application.yml, unless the same key is set as a system
+     * property, e.g. {@code -Dspring.datasource.hikari.maximum-pool-size=50}.
+     */
+    public static BenchmarkApp start(String... profiles) throws IOException {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        Path dataDir = Files.createTempDirectory("inventory-bench");
+
+        Map<String, String> settings = new LinkedHashMap<>();
+        settings.put("server.port", "0");
+        settings.put("server.address", "127.0.0.1");
+        settings.put("spring.datasource.url", "jdbc:h2:file:" + dataDir.resolve("InventoryDB").toAbsolutePath());
+        settings.put("spring.jpa.show-sql", "false");
+        settings.put("spring.h2.console.enabled", "false");
+        settings.put("spring.devtools.livereload.enabled", "false");
+        settings.put("inventory.token.access-ttl", "12h");
+        settings.put("logging.level.root", "warn");
+
+        String[] args = settings.entrySet().stream()
+                .filter(setting -> System.getProperty(setting.getKey()) == null)
+                .map(setting -> "--" + setting.getKey() + "=" + setting.getValue())
+                .toArray(String[]::new);
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(InventoryManagementSystemApplication.class)
+                .profiles(profiles)
+                .run(args);
+
+        BenchmarkApp app = new BenchmarkApp(context, dataDir);
+        try {
+            app.createAdmin();
+        } catch (RuntimeException ex) {
+            app.close();
+            throw ex;
+        }
+        return app;
+    }
+
+    public HttpClient client(){
+        return client;
+    }
+
+    public ConfigurableApplicationContext context(){
+        return context;
+    }
+
+    public URI uri(String pathAndQuery){
+        return URI.create(baseUrl + pathAndQuery);
+    }
+
+    /**
+     * Signs in with basic auth and returns the access token.
+     */
+    public String token() throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(tokenRequest(), HttpResponse.BodyHandlers.ofString());
+
+        if (response.statusCode() != 200) throw new IllegalStateException("Sign in failed with " + response.statusCode());
+
+        return MAPPER.readTree(response.body()).get("token").asText();
+    }
+
+    public HttpRequest tokenRequest(){
+        String basic = Base64.getEncoder().encodeToString((USERNAME + ":" + PASSWORD).getBytes(StandardCharsets.UTF_8));
+        return HttpRequest.newBuilder(uri("/auth/token"))
+                .header("Authorization", "Basic " + basic)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+
+    /**
+     * Posts the JSON body and returns the parsed response, failing on anything but a 2xx.
+     */
+    public JsonNode post(String token, String path, String json) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri(path))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build(), HttpResponse.BodyHandlers.ofString());
+
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("POST " + path + " failed with " + response.statusCode() + ": " + response.body());
+        }
+        return MAPPER.readTree(response.body());
+    }
+
+    private void createAdmin(){
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("System", null, Set.of())
+        );
+        try {
+            context.getBean(UserRepo.class).save(User.builder()
+                    .username(USERNAME)
+                    .password(context.getBean(PasswordEncoder.class).encode(PASSWORD))
+                    .enabled(true)
+                    .roles(new HashSet<>(Set.of("ROLE_ADMIN", "ROLE_USER")))
+                    .build());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        client.close();
+        context.close();
+        FileSystemUtils.deleteRecursively(dataDir);
+    }
+}
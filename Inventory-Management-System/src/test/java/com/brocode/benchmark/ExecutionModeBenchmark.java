@@ -0,0 +1,171 @@
+package com.brocode.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Throughput and latency of {@code GET /inventory/api/products} and {@code POST /inventory/api/sales}
+ * with Tomcat on its platform thread pool and on virtual threads, at rising client counts.
+ * Each client is a virtual thread sending its next request as soon as the last one returned.
+ * Run with {@code mvn -Pbenchmark verify}, tuned through system properties in {@code benchmark.jvmArgs}:
+ * <ul>
+ *     <li>{@code bench.modes} platform, virtual-threads or both (default)</li>
+ *     <li>{@code bench.clients} comma separated client counts, default 50,200,500,1000,2000</li>
+ *     <li>{@code bench.warmup} and {@code bench.duration} per run, default 5s and 15s</li>
+ *     <li>{@code bench.products} products to sell from, default 200</li>
+ * </ul>
+ */
+public class ExecutionModeBenchmark {
+    private static final String PLATFORM = "platform";
+    private static final String VIRTUAL_THREADS = "virtual-threads";
+    private static final String LIST_PRODUCTS = "GET /inventory/api/products";
+    private static final String CREATE_SALE = "POST /inventory/api/sales";
+
+    private record Scenario(String name, Supplier<HttpRequest> request) {
+    }
+
+    private record Result(String mode, String scenario, int clients, double throughput, LatencyRecorder latencies) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> modes = List.of(System.getProperty("bench.modes", PLATFORM + "," + VIRTUAL_THREADS).split(","));
+        int[] clientCounts = Arrays.stream(System.getProperty("bench.clients", "50,200,500,1000,2000").split(","))
+                .mapToInt(value -> Integer.parseInt(value.trim()))
+                .toArray();
+        Duration warmup = DurationStyle.detectAndParse(System.getProperty("bench.warmup", "5s"));
+        Duration duration = DurationStyle.detectAndParse(System.getProperty("bench.duration", "15s"));
+        int products = Integer.getInteger("bench.products", 200);
+
+        List<Result> results = new ArrayList<>();
+        for (String mode : modes) {
+            try (BenchmarkApp app = VIRTUAL_THREADS.equals(mode) ? BenchmarkApp.start(VIRTUAL_THREADS) : BenchmarkApp.start()) {
+                String token = app.token();
+                List<Scenario> scenarios = scenarios(app, token, seed(app, token, products));
+
+                for (Scenario scenario : scenarios) {
+                    for (int clients : clientCounts) {
+                        LatencyRecorder latencies = run(app, scenario, clients, warmup, duration);
+                        Result result = new Result(mode, scenario.name(), clients, latencies.count() / (duration.toNanos() / 1e9), latencies);
+                        System.out.println(format(result));
+                        results.add(result);
+                    }
+                }
+            }
+        }
+
+        System.out.println();
+        System.out.printf("%-28s %8s", "scenario", "clients");
+        modes.forEach(mode -> System.out.printf(" %14s %12s", mode + " req/s", "p99 ms"));
+        System.out.println();
+        for (String scenario : List.of(LIST_PRODUCTS, CREATE_SALE)) {
+            for (int clients : clientCounts) {
+                System.out.printf("%-28s %8d", scenario, clients);
+                for (String mode : modes) {
+                    results.stream()
+                            .filter(result -> result.mode().equals(mode) && result.scenario().equals(scenario) && result.clients() == clients)
+                            .findFirst()
+                            .ifPresent(result -> System.out.printf(Locale.ROOT, " %14.1f %12.1f", result.throughput(), result.latencies().percentile(99)));
+                }
+                System.out.println();
+            }
+        }
+    }
+
+    /**
+     * Creates a supplier, a category and products with stock that no run can sell out, returns the
+     * products' ids and prices.
+     */
+    private static double[][] seed(BenchmarkApp app, String token, int products) throws IOException, InterruptedException {
+        app.post(token, "/inventory/api/suppliers", "{\"name\":\"Benchmark\",\"contact\":\"0\",\"contactName\":\"Benchmark\",\"address\":\"-\"}");
+        long categoryId = app.post(token, "/inventory/api/categories", "{\"name\":\"Benchmark\"}").get("id").asLong();
+
+        double[][] seeded = new double[products][];
+        for (int i = 0; i < products; i++) {
+            double price = 1 + i % 20;
+            JsonNode product = app.post(token, "/inventory/api/products", String.format(Locale.ROOT,
+                    "{\"categoryId\":%d,\"name\":\"Product %d\",\"description\":\"Benchmark product\",\"price\":%.2f,\"inStock\":1000000000,\"warningStockLevel\":5,\"unit\":\"pc\"}",
+                    categoryId, i, price));
+            seeded[i] = new double[]{product.get("id").asLong(), price};
+        }
+        return seeded;
+    }
+
+    private static List<Scenario> scenarios(BenchmarkApp app, String token, double[][] products){
+        HttpRequest listProducts = HttpRequest.newBuilder(app.uri("/inventory/api/products"))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+
+        return List.of(
+                new Scenario(LIST_PRODUCTS, () -> listProducts),
+                new Scenario(CREATE_SALE, () -> {
+                    double[] product = products[ThreadLocalRandom.current().nextInt(products.length)];
+                    return HttpRequest.newBuilder(app.uri("/inventory/api/sales"))
+                            .header("Authorization", "Bearer " + token)
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(String.format(Locale.ROOT,
+                                    "{\"totalAmount\":%.2f,\"items\":[{\"productId\":%d,\"amount\":1,\"price\":%.2f}]}",
+                                    product[1], (long) product[0], product[1])))
+                            .build();
+                })
+        );
+    }
+
+    /**
+     * Runs the clients through the warmup and the measured window, only requests completed inside the
+     * window are recorded.
+     */
+    private static LatencyRecorder run(BenchmarkApp app, Scenario scenario, int clients, Duration warmup, Duration duration) throws InterruptedException {
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        LatencyRecorder[] recorders = new LatencyRecorder[clients];
+        Thread[] threads = new Thread[clients];
+        for (int i = 0; i < clients; i++) {
+            LatencyRecorder recorder = recorders[i] = new LatencyRecorder();
+            threads[i] = Thread.ofVirtual().start(() -> {
+                long start;
+                while ((start = System.nanoTime()) < end) {
+                    boolean ok;
+                    try {
+                        ok = app.client().send(scenario.request().get(), HttpResponse.BodyHandlers.discarding()).statusCode() / 100 == 2;
+                    } catch (IOException ex) {
+                        ok = false;
+                    } catch (InterruptedException ex) {
+                        return;
+                    }
+
+                    long done = System.nanoTime();
+                    if (done < measureFrom || done > end) continue;
+                    if (ok) recorder.record(done - start);
+                    else recorder.error();
+                }
+            });
+        }
+
+        LatencyRecorder merged = new LatencyRecorder();
+        for (int i = 0; i < clients; i++) {
+            threads[i].join();
+            merged.merge(recorders[i]);
+        }
+        return merged;
+    }
+
+    private static String format(Result result){
+        LatencyRecorder latencies = result.latencies();
+        return String.format(Locale.ROOT, "%-16s %-28s clients=%-5d req/s=%-9.1f p50=%.1fms p99=%.1fms max=%.1fms errors=%d",
+                result.mode(), result.scenario(), result.clients(), result.throughput(),
+                latencies.percentile(50), latencies.percentile(99), latencies.max(), latencies.errors());
+    }
+}
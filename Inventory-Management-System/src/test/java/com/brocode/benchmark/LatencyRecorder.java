@@ -0,0 +1,73 @@
+package com.brocode.benchmark;
+
+import java.util.Arrays;
+
+/**
+ * Latencies of one client, in nanoseconds. Each client records into its own instance and the
+ * results are merged once the run is over, so recording never contends.
+ */
+public class LatencyRecorder {
+    private long[] samples = new long[1024];
+    private int count;
+    private long errors;
+    private boolean sorted;
+
+    public void record(long nanos){
+        if (count == samples.length) samples = Arrays.copyOf(samples, count * 2);
+        samples[count++] = nanos;
+        sorted = false;
+    }
+
+    public void error(){
+        errors++;
+    }
+
+    public LatencyRecorder merge(LatencyRecorder other){
+        if (count + other.count > samples.length) samples = Arrays.copyOf(samples, Math.max(samples.length * 2, count + other.count));
+        System.arraycopy(other.samples, 0, samples, count, other.count);
+        count += other.count;
+        errors += other.errors;
+        sorted = false;
+        return this;
+    }
+
+    public int count(){
+        return count;
+    }
+
+    public long errors(){
+        return errors;
+    }
+
+    /**
+     * Latency at the given percentile (0-100) in milliseconds, nearest-rank.
+     */
+    public double percentile(double percentile){
+        if (count == 0) return 0;
+        if (!sorted) {
+            Arrays.sort(samples, 0, count);
+            sorted = true;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * count);
+        return samples[Math.clamp(rank - 1, 0, count - 1)] / 1_000_000.0;
+    }
+
+    public double max(){
+        return percentile(100);
+    }
+
+    /**
+     * Number of latencies at or below each bound in milliseconds and above the previous one, with a
+     * last bucket for everything above the highest bound.
+     */
+    public long[] histogram(double[] boundsMillis){
+        long[] buckets = new long[boundsMillis.length + 1];
+        for (int i = 0; i < count; i++) {
+            double millis = samples[i] / 1_000_000.0;
+            int bucket = 0;
+            while (bucket < boundsMillis.length && millis > boundsMillis[bucket]) bucket++;
+            buckets[bucket]++;
+        }
+        return buckets;
+    }
+}
@@ -0,0 +1,304 @@
+package com.brocode.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Replays a mix of till and back office traffic against the application booted on a random port,
+ * over a synthetic dataset seeded through the API. Each client is a virtual thread that picks its
+ * next request by weight as soon as the last one returned.
+ * Throughput and latencies per endpoint are printed and written as JSON to {@code load.report}.
+ * Run with {@code mvn -Pload-test verify}, tuned through system properties in {@code load.jvmArgs}:
+ * <ul>
+ *     <li>{@code load.profiles} Spring profiles to boot with, e.g. virtual-threads</li>
+ *     <li>{@code load.clients} concurrent clients, default 50</li>
+ *     <li>{@code load.warmup} and {@code load.duration}, default 10s and 60s</li>
+ *     <li>{@code load.categories}, {@code load.suppliers}, {@code load.products}, default 20, 10, 1000</li>
+ *     <li>{@code load.orders} and {@code load.sales} seeded as history, default 100 and 500</li>
+ *     <li>{@code load.basket} most lines in a sale or order, default 5</li>
+ *     <li>{@code load.mix} weights per operation, default {@value #DEFAULT_MIX}</li>
+ *     <li>{@code load.seed} seed of the dataset, default 42</li>
+ * </ul>
+ */
+public class LoadTest {
+    private static final String DEFAULT_MIX = "token=1,products=20,product=10,search=10,dashboard=5,sale=15,order=3";
+    private static final double[] HISTOGRAM_BOUNDS_MILLIS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000};
+    private static final String[] NOUNS = {"Water", "Rice", "Sugar", "Soap", "Bread", "Milk", "Flour", "Cooking Oil", "Tea", "Coffee", "Beans", "Salt"};
+    private static final String[] SIZES = {"250g", "500ml", "1kg", "2kg", "5l", "24 pack"};
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private record Operation(String endpoint, int weight, Supplier<HttpRequest> request) {
+    }
+
+    private record Dataset(long[] categoryIds, long[] supplierIds, long[] productIds, double[] prices) {
+    }
+
+    record EndpointReport(String endpoint, long requests, long errors, double throughput,
+                          double p50, double p95, double p99, double max, long[] histogram) {
+    }
+
+    record Report(String startedAt, Map<String, Object> settings, double durationSeconds,
+                  double[] histogramBoundsMillis, List<EndpointReport> endpoints) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String[] profiles = System.getProperty("load.profiles", "").isBlank() ? new String[0] : System.getProperty("load.profiles").split(",");
+        int clients = Integer.getInteger("load.clients", 50);
+        Duration warmup = DurationStyle.detectAndParse(System.getProperty("load.warmup", "10s"));
+        Duration duration = DurationStyle.detectAndParse(System.getProperty("load.duration", "60s"));
+        int basket = Integer.getInteger("load.basket", 5);
+        String mix = System.getProperty("load.mix", DEFAULT_MIX);
+        Path reportPath = Path.of(System.getProperty("load.report", "target/load-test-report.json"));
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("profiles", String.join(",", profiles));
+        settings.put("clients", clients);
+        settings.put("warmup", warmup.toString());
+        settings.put("duration", duration.toString());
+        settings.put("categories", Integer.getInteger("load.categories", 20));
+        settings.put("suppliers", Integer.getInteger("load.suppliers", 10));
+        settings.put("products", Integer.getInteger("load.products", 1000));
+        settings.put("orders", Integer.getInteger("load.orders", 100));
+        settings.put("sales", Integer.getInteger("load.sales", 500));
+        settings.put("basket", basket);
+        settings.put("mix", mix);
+        settings.put("seed", Long.getLong("load.seed", 42));
+        settings.put("processors", Runtime.getRuntime().availableProcessors());
+        settings.put("maxMemory", Runtime.getRuntime().maxMemory());
+
+        String startedAt = Instant.now().toString();
+        List<EndpointReport> endpoints;
+        try (BenchmarkApp app = BenchmarkApp.start(profiles)) {
+            String token = app.token();
+            long seeding = System.nanoTime();
+            Dataset dataset = seed(app, token, settings);
+            System.out.printf(Locale.ROOT, "Seeded %s in %.1fs%n", settings, (System.nanoTime() - seeding) / 1e9);
+
+            List<Operation> operations = operations(app, token, dataset, basket, mix);
+            LatencyRecorder[] latencies = run(app, operations, clients, warmup, duration);
+
+            endpoints = new ArrayList<>();
+            for (int i = 0; i < operations.size(); i++) {
+                LatencyRecorder recorder = latencies[i];
+                endpoints.add(new EndpointReport(operations.get(i).endpoint(), recorder.count(), recorder.errors(),
+                        recorder.count() / (duration.toNanos() / 1e9),
+                        recorder.percentile(50), recorder.percentile(95), recorder.percentile(99), recorder.max(),
+                        recorder.histogram(HISTOGRAM_BOUNDS_MILLIS)));
+            }
+        }
+
+        System.out.println();
+        System.out.printf("%-40s %10s %8s %10s %9s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        endpoints.forEach(endpoint -> System.out.printf(Locale.ROOT, "%-40s %10d %8d %10.1f %9.1f %9.1f %9.1f %9.1f%n",
+                endpoint.endpoint(), endpoint.requests(), endpoint.errors(), endpoint.throughput(),
+                endpoint.p50(), endpoint.p95(), endpoint.p99(), endpoint.max()));
+
+        if (reportPath.getParent() != null) Files.createDirectories(reportPath.getParent());
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(reportPath.toFile(),
+                new Report(startedAt, settings, duration.toNanos() / 1e9, HISTOGRAM_BOUNDS_MILLIS, endpoints));
+        System.out.println("Report written to " + reportPath.toAbsolutePath());
+    }
+
+    /**
+     * Creates categories, suppliers and products through the API, then a history of orders and
+     * sales. Products are created with enough stock that no run sells them out.
+     */
+    private static Dataset seed(BenchmarkApp app, String token, Map<String, Object> settings) throws IOException, InterruptedException {
+        Random random = new Random((long) settings.get("seed"));
+
+        long[] categoryIds = new long[(int) settings.get("categories")];
+        for (int i = 0; i < categoryIds.length; i++) {
+            categoryIds[i] = app.post(token, "/inventory/api/categories", "{\"name\":\"Category " + i + "\"}").get("id").asLong();
+        }
+
+        long[] supplierIds = new long[(int) settings.get("suppliers")];
+        for (int i = 0; i < supplierIds.length; i++) {
+            supplierIds[i] = app.post(token, "/inventory/api/suppliers", String.format(Locale.ROOT,
+                    "{\"name\":\"Supplier %d\",\"contact\":\"0772%06d\",\"contactName\":\"Contact %d\",\"address\":\"%d Main Street\"}",
+                    i, i, i, i + 1)).get("id").asLong();
+        }
+
+        long[] productIds = new long[(int) settings.get("products")];
+        double[] prices = new double[productIds.length];
+        for (int i = 0; i < productIds.length; i++) {
+            prices[i] = Math.round((0.5 + random.nextDouble() * 30) * 100) / 100.0;
+            productIds[i] = app.post(token, "/inventory/api/products", String.format(Locale.ROOT,
+                    "{\"categoryId\":%d,\"name\":\"%s %s %d\",\"description\":\"Load test product\",\"price\":%.2f,\"inStock\":1000000000,\"warningStockLevel\":%d,\"unit\":\"pc\"}",
+                    categoryIds[random.nextInt(categoryIds.length)], NOUNS[random.nextInt(NOUNS.length)], SIZES[random.nextInt(SIZES.length)],
+                    i, prices[i], 5 + random.nextInt(20))).get("id").asLong();
+        }
+
+        Dataset dataset = new Dataset(categoryIds, supplierIds, productIds, prices);
+        int basket = (int) settings.get("basket");
+        for (int i = 0; i < (int) settings.get("orders"); i++) app.post(token, "/inventory/api/orders", orderJson(dataset, random, basket));
+        for (int i = 0; i < (int) settings.get("sales"); i++) app.post(token, "/inventory/api/sales", saleJson(dataset, random, basket));
+        return dataset;
+    }
+
+    private static List<Operation> operations(BenchmarkApp app, String token, Dataset dataset, int basket, String mix){
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.split("=");
+            weights.put(pair[0].trim(), Integer.parseInt(pair[1].trim()));
+        }
+
+        List<Operation> operations = new ArrayList<>();
+        weights.forEach((name, weight) -> {
+            if (weight <= 0) return;
+            operations.add(switch (name) {
+                case "token" -> new Operation("POST /auth/token", weight, app::tokenRequest);
+                case "products" -> new Operation("GET /inventory/api/products", weight, () -> {
+                    RandomGenerator random = ThreadLocalRandom.current();
+                    String query = random.nextBoolean() ? "" : "&categoryId=" + dataset.categoryIds()[random.nextInt(dataset.categoryIds().length)];
+                    return get(app, token, "/inventory/api/products?size=50" + query);
+                });
+                case "product" -> new Operation("GET /inventory/api/products?id", weight, () ->
+                        get(app, token, "/inventory/api/products?id=" + dataset.productIds()[popular(ThreadLocalRandom.current(), dataset.productIds().length)]));
+                case "search" -> new Operation("GET /inventory/api/products/search", weight, () ->
+                        get(app, token, "/inventory/api/products/search?size=20&q=" + NOUNS[ThreadLocalRandom.current().nextInt(NOUNS.length)].split(" ")[0].toLowerCase(Locale.ROOT)));
+                case "dashboard" -> new Operation("GET /inventory/api/dashboard", weight, () -> get(app, token, "/inventory/api/dashboard"));
+                case "sale" -> new Operation("POST /inventory/api/sales", weight, () ->
+                        post(app, token, "/inventory/api/sales", saleJson(dataset, ThreadLocalRandom.current(), basket)));
+                case "order" -> new Operation("POST /inventory/api/orders", weight, () ->
+                        post(app, token, "/inventory/api/orders", orderJson(dataset, ThreadLocalRandom.current(), basket)));
+                default -> throw new IllegalArgumentException("Unknown operation " + name + " in load.mix");
+            });
+        });
+        return operations;
+    }
+
+    /**
+     * Runs the clients through the warmup and the measured window, only requests completed inside the
+     * window are recorded. Returns one recorder per operation.
+     */
+    private static LatencyRecorder[] run(BenchmarkApp app, List<Operation> operations, int clients, Duration warmup, Duration duration) throws InterruptedException {
+        int[] cumulativeWeights = new int[operations.size()];
+        int totalWeight = 0;
+        for (int i = 0; i < operations.size(); i++) cumulativeWeights[i] = totalWeight += operations.get(i).weight();
+
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        int weightSum = totalWeight;
+
+        LatencyRecorder[][] recorders = new LatencyRecorder[clients][operations.size()];
+        Thread[] threads = new Thread[clients];
+        for (int i = 0; i < clients; i++) {
+            LatencyRecorder[] clientRecorders = recorders[i];
+            for (int op = 0; op < operations.size(); op++) clientRecorders[op] = new LatencyRecorder();
+
+            threads[i] = Thread.ofVirtual().start(() -> {
+                long start;
+                while ((start = System.nanoTime()) < end) {
+                    int pick = ThreadLocalRandom.current().nextInt(weightSum);
+                    int op = 0;
+                    while (cumulativeWeights[op] <= pick) op++;
+
+                    boolean ok;
+                    try {
+                        ok = app.client().send(operations.get(op).request().get(), HttpResponse.BodyHandlers.discarding()).statusCode() / 100 == 2;
+                    } catch (IOException ex) {
+                        ok = false;
+                    } catch (InterruptedException ex) {
+                        return;
+                    }
+
+                    long done = System.nanoTime();
+                    if (done < measureFrom || done > end) continue;
+                    if (ok) clientRecorders[op].record(done - start);
+                    else clientRecorders[op].error();
+                }
+            });
+        }
+
+        LatencyRecorder[] merged = new LatencyRecorder[operations.size()];
+        for (int op = 0; op < operations.size(); op++) merged[op] = new LatencyRecorder();
+        for (int i = 0; i < clients; i++) {
+            threads[i].join();
+            for (int op = 0; op < operations.size(); op++) merged[op].merge(recorders[i][op]);
+        }
+        return merged;
+    }
+
+    /**
+     * A basket of distinct products, the popular ones more likely, one to three of each.
+     */
+    private static String saleJson(Dataset dataset, RandomGenerator random, int basket){
+        StringJoiner items = new StringJoiner(",");
+        double total = 0;
+        for (int index : basket(dataset, random, basket)) {
+            int amount = 1 + random.nextInt(3);
+            total += amount * dataset.prices()[index];
+            items.add(String.format(Locale.ROOT, "{\"productId\":%d,\"amount\":%d,\"price\":%.2f}",
+                    dataset.productIds()[index], amount, dataset.prices()[index]));
+        }
+        return String.format(Locale.ROOT, "{\"saleDate\":\"%s\",\"totalAmount\":%.2f,\"items\":[%s]}", LocalDate.now(), total, items);
+    }
+
+    /**
+     * A delivery from one supplier restocking the popular products in cases.
+     */
+    private static String orderJson(Dataset dataset, RandomGenerator random, int basket){
+        StringJoiner items = new StringJoiner(",");
+        double total = 0;
+        for (int index : basket(dataset, random, basket)) {
+            int amount = 12 * (1 + random.nextInt(10));
+            double orderPrice = Math.round(dataset.prices()[index] * 60) / 100.0;
+            total += amount * orderPrice;
+            items.add(String.format(Locale.ROOT, "{\"productId\":%d,\"amount\":%d,\"orderPrice\":%.2f}",
+                    dataset.productIds()[index], amount, orderPrice));
+        }
+        return String.format(Locale.ROOT, "{\"supplierId\":%d,\"orderDate\":\"%s\",\"totalAmount\":%.2f,\"items\":[%s]}",
+                dataset.supplierIds()[random.nextInt(dataset.supplierIds().length)], LocalDate.now(), total, items);
+    }
+
+    private static Set<Integer> basket(Dataset dataset, RandomGenerator random, int basket){
+        int lines = Math.min(1 + random.nextInt(basket), dataset.productIds().length);
+        Set<Integer> indexes = new LinkedHashSet<>();
+        while (indexes.size() < lines) indexes.add(popular(random, dataset.productIds().length));
+        return indexes;
+    }
+
+    /**
+     * Index skewed towards the start of the range, a cheap stand-in for a Zipf distribution where a
+     * few products make most of the sales.
+     */
+    private static int popular(RandomGenerator random, int count){
+        return (int) (count * Math.pow(random.nextDouble(), 3));
+    }
+
+    private static HttpRequest get(BenchmarkApp app, String token, String pathAndQuery){
+        return HttpRequest.newBuilder(app.uri(pathAndQuery))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private static HttpRequest post(BenchmarkApp app, String token, String path, String json){
+        return HttpRequest.newBuilder(app.uri(path))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+}
@@ -0,0 +1,111 @@
+package com.brocode.service;
+
+import com.brocode.entity.Batch;
+import com.brocode.entity.Product;
+import com.brocode.repo.BatchRepo;
+import com.brocode.service.BatchAllocationService.BatchAllocation;
+import com.brocode.service.dto.OpenBatchDto;
+import com.brocode.utils.ProductOutOfStockException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BatchAllocationServiceTest {
+    private final Product product = Product.builder().id(1L).name("Rice").build();
+    private final Map<Long, Batch> batches = new LinkedHashMap<>();
+    private BatchAllocationService allocationService;
+
+    private void openBatches(double... stock){
+        for (int i = 0; i < stock.length; i++) {
+            long id = i + 1;
+            batches.put(id, Batch.builder().id(id).product(product).stockLeft(stock[i]).build());
+        }
+
+        BatchRepo batchRepo = mock(BatchRepo.class);
+        when(batchRepo.findAllOpen()).thenAnswer(invocation -> batches.values().stream()
+                .map(batch -> new OpenBatchDto(batch.getId(), product.getId(), batch.getStockLeft()))
+                .toList());
+        when(batchRepo.findAllById(any())).thenAnswer(invocation -> {
+            List<Batch> found = new ArrayList<>();
+            for (Object id : (Iterable<?>) invocation.getArgument(0)) found.add(batches.get((Long) id));
+            return found;
+        });
+
+        OpenBatchRegistry registry = new OpenBatchRegistry(batchRepo);
+        registry.warmUp();
+        allocationService = new BatchAllocationService(batchRepo, registry);
+    }
+
+    @Test
+    void splitsAcrossBatchesOldestFirst(){
+        openBatches(2, 3, 5);
+
+        List<BatchAllocation> allocations = allocationService.allocate(product, null, 4);
+
+        assertThat(allocations).extracting(allocation -> allocation.batch().getId()).containsExactly(1L, 2L);
+        assertThat(allocations).extracting(BatchAllocation::amount).containsExactly(2.0, 2.0);
+        assertThat(batches.get(1L).getStockLeft()).isZero();
+        assertThat(batches.get(2L).getStockLeft()).isEqualTo(1.0);
+        assertThat(batches.get(3L).getStockLeft()).isEqualTo(5.0);
+    }
+
+    @Test
+    void drawsFromThePreferredBatchFirst(){
+        openBatches(2, 3);
+
+        List<BatchAllocation> allocations = allocationService.allocate(product, 2L, 4);
+
+        assertThat(allocations).extracting(allocation -> allocation.batch().getId()).containsExactly(2L, 1L);
+        assertThat(allocations).extracting(BatchAllocation::amount).containsExactly(3.0, 1.0);
+    }
+
+    @Test
+    void exactDepletionClosesEveryBatch(){
+        openBatches(2, 3);
+
+        allocationService.allocate(product, null, 5);
+
+        assertThat(batches.values()).allSatisfy(batch -> assertThat(batch.getStockLeft()).isZero());
+        assertThatThrownBy(() -> allocationService.allocate(product, null, 0.001)).isInstanceOf(ProductOutOfStockException.class);
+    }
+
+    @Test
+    void fractionalAmountsAddingUpInexactlyStillDeplete(){
+        openBatches(0.1, 0.2);
+
+        List<BatchAllocation> allocations = allocationService.allocate(product, null, 0.3);
+
+        assertThat(allocations).hasSize(2);
+        assertThat(allocations.get(0).amount()).isEqualTo(0.1);
+        assertThat(allocations.get(1).amount()).isCloseTo(0.2, within(OpenBatchRegistry.EPSILON));
+        assertThat(batches.values()).allSatisfy(batch -> assertThat(batch.getStockLeft()).isZero());
+    }
+
+    @Test
+    void fractionalRemaindersLeaveNoZombieBatch(){
+        openBatches(1.0);
+
+        for (int i = 0; i < 10; i++) allocationService.allocate(product, null, 0.1);
+
+        assertThat(batches.get(1L).getStockLeft()).isZero();
+        assertThatThrownBy(() -> allocationService.allocate(product, null, 0.1)).isInstanceOf(ProductOutOfStockException.class);
+    }
+
+    @Test
+    void failsWhenTheOpenBatchesDoNotCoverTheAmount(){
+        openBatches(1.5, 0.25);
+
+        assertThatThrownBy(() -> allocationService.allocate(product, null, 1.8)).isInstanceOf(ProductOutOfStockException.class);
+        assertThat(batches.get(1L).getStockLeft()).isEqualTo(1.5);
+    }
+}
@@ -0,0 +1,135 @@
+package com.brocode.service;
+
+import com.brocode.entity.Batch;
+import com.brocode.repo.BatchRepo;
+import com.brocode.repo.ProductRepo;
+import com.brocode.service.dto.CategoryCreateDto;
+import com.brocode.service.dto.OrderCreateDto;
+import com.brocode.service.dto.OrderItemCreateDto;
+import com.brocode.service.dto.ProductCreateDto;
+import com.brocode.service.dto.SaleCreateDto;
+import com.brocode.service.dto.SaleItemCreateDto;
+import com.brocode.service.dto.SupplierCreateDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:checkout-concurrency;DB_CLOSE_DELAY=-1")
+class CheckoutServiceConcurrencyTest {
+    private static final double INITIAL_STOCK = 1000;
+    private static final int SALES_TO_DELETE = 20;
+    private static final int SALES_TO_CREATE = 40;
+
+    @Autowired
+    private CheckoutService checkoutService;
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private CategoryService categoryService;
+    @Autowired
+    private SupplierService supplierService;
+    @Autowired
+    private ProductRepo productRepo;
+    @Autowired
+    private BatchRepo batchRepo;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp(){
+        authenticate();
+
+        Long categoryId = categoryService.createCategory(new CategoryCreateDto("Grains " + System.nanoTime())).id();
+        Long supplierId = supplierService.createSupplier(new SupplierCreateDto("Mill " + System.nanoTime(), "", "", "")).id();
+        productId = productService.createProduct(
+                new ProductCreateDto(categoryId, "Rice " + System.nanoTime(), "", 10.0, 0.0, 5.0, "kg")
+        ).id();
+
+        checkoutService.createOrder(new OrderCreateDto(
+                supplierId,
+                LocalDate.now(),
+                List.of(new OrderItemCreateDto(productId, INITIAL_STOCK, 8.0)),
+                INITIAL_STOCK * 8.0
+        ));
+    }
+
+    @AfterEach
+    void tearDown(){
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void parallelCheckoutAndDeleteKeepStockConsistent() throws Exception {
+        List<Long> saleIds = new ArrayList<>();
+        for (int i = 0; i < SALES_TO_DELETE; i++) saleIds.add(checkoutService.createSale(oneUnitSale()).id());
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        saleIds.forEach(saleId -> tasks.add(() -> {
+            checkoutService.deleteSale(saleId);
+            return null;
+        }));
+        for (int i = 0; i < SALES_TO_CREATE; i++) tasks.add(() -> {
+            checkoutService.createSale(oneUnitSale());
+            return null;
+        });
+
+        runTogether(tasks);
+
+        double expected = INITIAL_STOCK - SALES_TO_CREATE;
+        double batchStock = batchRepo.findAll().stream()
+                .filter(batch -> batch.getProduct().getId().equals(productId))
+                .mapToDouble(Batch::getStockLeft)
+                .sum();
+
+        assertThat(productRepo.findById(productId).orElseThrow().getInStock()).isEqualTo(expected);
+        assertThat(batchStock).isEqualTo(expected);
+    }
+
+    private SaleCreateDto oneUnitSale(){
+        return new SaleCreateDto(LocalDate.now(), List.of(new SaleItemCreateDto(productId, null, 1.0, 12.0)), 12.0);
+    }
+
+    private void runTogether(List<Callable<Void>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (Callable<Void> task : tasks) futures.add(executor.submit(() -> {
+                authenticate();
+                start.await();
+
+                try {
+                    return task.call();
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            }));
+
+            start.countDown();
+            for (Future<Void> future : futures) future.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void authenticate(){
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("tester", null, "ROLE_ADMIN"));
+    }
+}
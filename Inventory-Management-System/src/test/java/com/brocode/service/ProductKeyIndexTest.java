@@ -0,0 +1,75 @@
+package com.brocode.service;
+
+import com.brocode.entity.Product;
+import com.brocode.repo.ProductRepo;
+import com.brocode.service.dto.ProductSummaryDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProductKeyIndexTest {
+    private final ProductRepo productRepo = mock(ProductRepo.class);
+    private final ProductMapper mapper = mock(ProductMapper.class);
+    private final ProductKeyIndex index = new ProductKeyIndex(productRepo, mapper);
+
+    @BeforeEach
+    void setUp(){
+        when(productRepo.findAll()).thenReturn(List.of());
+        when(mapper.productToSummary(any())).thenAnswer(invocation -> {
+            Product product = invocation.getArgument(0);
+            return new ProductSummaryDto(product.getId(), product.getProductKey(), product.getName(), null, 1.0, 1.0, "pc", false);
+        });
+        index.warmUp();
+    }
+
+    private static Product product(long id, String key, long version){
+        return Product.builder().id(id).productKey(key).name("Product " + id).version(version).build();
+    }
+
+    @Test
+    void missLoadsTheProductOnce(){
+        when(productRepo.findByProductKey("RICE-1")).thenReturn(Optional.of(product(1, "RICE-1", 0)));
+
+        assertThat(index.find(" rice-1 ")).map(ProductSummaryDto::id).contains(1L);
+        when(productRepo.findByProductKey("RICE-1")).thenReturn(Optional.empty());
+        assertThat(index.find("RICE-1")).map(ProductSummaryDto::id).contains(1L);
+    }
+
+    @Test
+    void deleteCommittingDuringAMissIsNotUndone(){
+        Product stale = product(1, "RICE-1", 3);
+        when(productRepo.findByProductKey("RICE-1")).thenAnswer(invocation -> {
+            index.productChanged(new ProductChangedEvent(product(1, "RICE-1", 3), true));
+            return Optional.of(stale);
+        });
+
+        assertThat(index.find("RICE-1")).isEmpty();
+        assertThat(index.find("RICE-1")).isEmpty();
+    }
+
+    @Test
+    void keyGivenToANewProductReplacesTheRemoval(){
+        index.productChanged(new ProductChangedEvent(product(1, "RICE-1", 5), true));
+        index.productChanged(new ProductChangedEvent(product(2, "RICE-1", 0), false));
+
+        assertThat(index.find("RICE-1")).map(ProductSummaryDto::id).contains(2L);
+    }
+
+    @Test
+    void olderUpdateDoesNotReplaceANewerOne(){
+        Product older = product(1, "RICE-1", 1);
+        older.setName("Old");
+
+        index.productChanged(new ProductChangedEvent(product(1, "RICE-1", 2), false));
+        index.productChanged(new ProductChangedEvent(older, false));
+
+        assertThat(index.find("RICE-1")).map(ProductSummaryDto::name).contains("Product 1");
+    }
+}
@@ -94,6 +94,7 @@ fun AppNavigation(
     val ordersApiService = retrofit.ordersApiService
     val suppliersApiService = retrofit.suppliersApiService
     val batchApiService = retrofit.batchApiService
+    val dashboardApiService = retrofit.dashboardApiService
     val userApiService = retrofit.userApiService
 
     var showGetStarted by remember { mutableStateOf(true) }
@@ -153,6 +154,7 @@ fun AppNavigation(
                 ordersApiService = ordersApiService,
                 suppliersApiService = suppliersApiService,
                 batchApiService = batchApiService,
+                dashboardApiService = dashboardApiService,
                 onLogout = {
                     authRepository.logout()
                     isLoggedIn = false
@@ -2,6 +2,12 @@ package com.example.inventory.data
 
 data class LoginResponse(
     val token: String,
+    val refreshToken: String? = null,
+    val expiresIn: Long? = null,
+)
+
+data class RefreshRequest(
+    val refreshToken: String
 )
 
 data class UserResponseDto(
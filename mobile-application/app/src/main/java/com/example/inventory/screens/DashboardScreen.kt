@@ -38,25 +38,15 @@ import java.time.format.DateTimeFormatter
 fun DashboardScreen(
     tokenManager: TokenManager,
     userApiService: UserApiService,
-    productApiService: ProductApiService,
-    categoryApiService: CategoryApiService,
+    dashboardApiService: DashboardApiService,
     salesApiService: SalesApiService,
-    ordersApiService: OrdersApiService,
-    suppliersApiService: SuppliersApiService,
     batchApiService: BatchApiService,
     onError: (String) -> Unit = {},
     onShowMessage: (String) -> Unit = {},
     onDownloadRequest: (() -> Unit) -> Unit
 ) {
     val viewModel: DashboardViewModel = viewModel(
-        factory = DashboardViewModelFactory(
-            productApiService,
-            categoryApiService,
-            salesApiService,
-            ordersApiService,
-            suppliersApiService,
-            batchApiService
-        )
+        factory = DashboardViewModelFactory(dashboardApiService)
     )
 
     val uiState by viewModel.uiState.collectAsState()
@@ -621,24 +611,12 @@ private fun buildWelcomeMessage(user: UserResponseDto?): String {
 }
 
 class DashboardViewModelFactory(
-    private val productApiService: ProductApiService,
-    private val categoryApiService: CategoryApiService,
-    private val salesApiService: SalesApiService,
-    private val ordersApiService: OrdersApiService,
-    private val suppliersApiService: SuppliersApiService,
-    private val batchApiService: BatchApiService
+    private val dashboardApiService: DashboardApiService
 ) : androidx.lifecycle.ViewModelProvider.Factory {
     @Suppress("UNCHECKED_CAST")
     override fun <T : androidx.lifecycle.ViewModel> create(modelClass: Class<T>): T {
         if (modelClass.isAssignableFrom(DashboardViewModel::class.java)) {
-            return DashboardViewModel(
-                productApiService,
-                categoryApiService,
-                salesApiService,
-                ordersApiService,
-                suppliersApiService,
-                batchApiService
-            ) as T
+            return DashboardViewModel(dashboardApiService) as T
         }
         throw IllegalArgumentException("Unknown ViewModel class")
     }
@@ -21,6 +21,7 @@ import com.example.inventory.screens.composable.mainscreen.ModernTopAppBar
 import com.example.inventory.service.TokenManager
 import com.example.inventory.service.api.BatchApiService
 import com.example.inventory.service.api.CategoryApiService
+import com.example.inventory.service.api.DashboardApiService
 import com.example.inventory.service.api.OrdersApiService
 import com.example.inventory.service.api.ProductApiService
 import com.example.inventory.service.api.SalesApiService
@@ -43,6 +44,7 @@ fun MainScreen(
     ordersApiService: OrdersApiService,
     suppliersApiService: SuppliersApiService,
     batchApiService: BatchApiService,
+    dashboardApiService: DashboardApiService,
     onLogout: () -> Unit,
     onError: (String) -> Unit = {},
     onShowMessage: (String) -> Unit = {},
@@ -78,11 +80,8 @@ fun MainScreen(
                     MainScreenTab.DASHBOARD -> DashboardScreen(
                         tokenManager = tokenManager,
                         userApiService = userApiService,
-                        productApiService = productApiService,
-                        categoryApiService = categoryApiService,
+                        dashboardApiService = dashboardApiService,
                         salesApiService = salesApiService,
-                        ordersApiService = ordersApiService,
-                        suppliersApiService = suppliersApiService,
                         batchApiService = batchApiService,
                         onError = onError,
                         onShowMessage = onShowMessage,
@@ -52,7 +52,7 @@ fun QuickStatsGrid(data: DashboardData) {
         StatItem(
             title = "Total Products",
             value = data.totalProducts.toString(),
-            subtitle = "${data.lowStockProducts.size} low stock",
+            subtitle = "${data.lowStockCount} low stock",
             icon = Icons.Default.Inventory2,
             color = MaterialTheme.colorScheme.primary,
             trend = null
@@ -1,10 +1,13 @@
 package com.example.inventory.service
 
 import okhttp3.Interceptor
+import okhttp3.Request
 import okhttp3.Response
+import java.util.concurrent.TimeUnit
 
 class AuthInterceptor(
     private val tokenManager: TokenManager,
+    private val tokenRefresher: TokenRefresher,
     private val username: String? = null,
     private val password: String? = null
 ) : Interceptor {
@@ -14,25 +17,39 @@ class AuthInterceptor(
 
         val isLoginRequest = originalRequest.url.encodedPath.contains("auth/token")
 
-        val newRequest = when {
-            isLoginRequest && username != null && password != null -> {
-                val credential = okhttp3.Credentials.basic(username, password)
+        if (isLoginRequest && username != null && password != null) {
+            val credential = okhttp3.Credentials.basic(username, password)
+            return chain.proceed(
                 originalRequest.newBuilder()
                     .header("Authorization", credential)
                     .build()
-            }
-            else -> {
-                val token = tokenManager.getToken()
-                if (token != null) {
-                    originalRequest.newBuilder()
-                        .header("Authorization", "Bearer $token")
-                        .build()
-                } else {
-                    originalRequest
-                }
-            }
+            )
         }
 
-        return chain.proceed(newRequest)
+        // Renew shortly before expiry so requests don't have to fail first
+        var token = tokenManager.getToken()
+        if (tokenManager.isTokenExpiring(REFRESH_MARGIN_MILLIS)) {
+            token = tokenRefresher.refresh(token) ?: token
+        }
+
+        val response = chain.proceed(withToken(originalRequest, token))
+        if (response.code != 401 || tokenManager.getRefreshToken() == null) return response
+
+        val refreshed = tokenRefresher.refresh(token)
+        if (refreshed == null || refreshed == token) return response
+
+        response.close()
+        return chain.proceed(withToken(originalRequest, refreshed))
+    }
+
+    private fun withToken(request: Request, token: String?): Request {
+        if (token == null) return request
+        return request.newBuilder()
+            .header("Authorization", "Bearer $token")
+            .build()
+    }
+
+    companion object {
+        private val REFRESH_MARGIN_MILLIS = TimeUnit.SECONDS.toMillis(60)
     }
-}
\ No newline at end of file
+}
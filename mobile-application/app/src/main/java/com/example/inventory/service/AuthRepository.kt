@@ -21,7 +21,7 @@ class AuthRepository(
                 if (response.isSuccessful) {
                     val loginResponse = response.body()!!
 
-                    tokenManager.saveToken(loginResponse.token)
+                    tokenManager.saveTokens(loginResponse)
                     Result.success(loginResponse.token)
                 } else {
                     Result.failure(Exception("Login failed: ${response.code()} ${response.message()}"))
@@ -33,7 +33,7 @@ class AuthRepository(
     }
 
     fun isLoggedIn(): Boolean {
-        return tokenManager.getToken() != null
+        return tokenManager.getToken() != null || tokenManager.getRefreshToken() != null
     }
 
     fun logout() {
@@ -6,6 +6,7 @@ import com.example.inventory.data.adapters.LocalDateAdapter
 import com.example.inventory.data.adapters.LocalDateTimeAdapter
 import com.example.inventory.service.api.BatchApiService
 import com.example.inventory.service.api.CategoryApiService
+import com.example.inventory.service.api.DashboardApiService
 import com.example.inventory.service.api.OrdersApiService
 import com.example.inventory.service.api.ProductApiService
 import com.example.inventory.service.api.SalesApiService
@@ -33,7 +34,7 @@ class RetrofitInstance(
         level = HttpLoggingInterceptor.Level.BODY
     }
 
-    private val authInterceptor = AuthInterceptor(tokenManager,username,password)
+    private val authInterceptor = AuthInterceptor(tokenManager, TokenRefresher(tokenManager, BASE_URL), username, password)
 
     @RequiresApi(Build.VERSION_CODES.O)
     private val gson = GsonBuilder()
@@ -83,4 +84,8 @@ class RetrofitInstance(
     val batchApiService: BatchApiService by lazy {
         retrofit.create(BatchApiService::class.java)
     }
+
+    val dashboardApiService: DashboardApiService by lazy {
+        retrofit.create(DashboardApiService::class.java)
+    }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import android.content.Context
 import android.content.SharedPreferences
 import androidx.security.crypto.EncryptedSharedPreferences
 import androidx.security.crypto.MasterKey
+import com.example.inventory.data.LoginResponse
 import com.example.inventory.data.UserResponseDto
 import com.google.gson.Gson
 import androidx.core.content.edit
@@ -30,6 +31,16 @@ class TokenManager(private val context: Context) {
         sharedPreferences.edit { putString(KEY_TOKEN, token) }
     }
 
+    fun saveTokens(loginResponse: LoginResponse) {
+        sharedPreferences.edit {
+            putString(KEY_TOKEN, loginResponse.token)
+            loginResponse.refreshToken?.let { putString(KEY_REFRESH_TOKEN, it) }
+            loginResponse.expiresIn?.let {
+                putLong(KEY_TOKEN_EXPIRES_AT, System.currentTimeMillis() + it * 1000)
+            }
+        }
+    }
+
     fun saveUser(userResponse: UserResponseDto) {
         sharedPreferences.edit { putString(KEY_USER_DATA, gson.toJson(userResponse)) }
     }
@@ -38,6 +49,16 @@ class TokenManager(private val context: Context) {
         return sharedPreferences.getString(KEY_TOKEN, null)
     }
 
+    fun getRefreshToken(): String? {
+        return sharedPreferences.getString(KEY_REFRESH_TOKEN, null)
+    }
+
+    // True once the access token is within the given margin of expiring
+    fun isTokenExpiring(marginMillis: Long): Boolean {
+        val expiresAt = sharedPreferences.getLong(KEY_TOKEN_EXPIRES_AT, 0L)
+        return expiresAt != 0L && System.currentTimeMillis() + marginMillis >= expiresAt
+    }
+
     fun getUser(): UserResponseDto? {
         val userJson = sharedPreferences.getString(KEY_USER_DATA, null)
         return try {
@@ -65,7 +86,11 @@ class TokenManager(private val context: Context) {
     }
 
     fun clearToken() {
-        sharedPreferences.edit { remove(KEY_TOKEN) }
+        sharedPreferences.edit {
+            remove(KEY_TOKEN)
+            remove(KEY_REFRESH_TOKEN)
+            remove(KEY_TOKEN_EXPIRES_AT)
+        }
     }
 
     fun clearUser() {
@@ -98,6 +123,8 @@ class TokenManager(private val context: Context) {
 
     companion object {
         private const val KEY_TOKEN = "jwt_token"
+        private const val KEY_REFRESH_TOKEN = "refresh_token"
+        private const val KEY_TOKEN_EXPIRES_AT = "jwt_token_expires_at"
         private const val KEY_USER_DATA = "user_data"
     }
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.example.inventory.service
+
+import com.example.inventory.data.RefreshRequest
+import com.example.inventory.service.api.UserApiService
+import okhttp3.OkHttpClient
+import retrofit2.Retrofit
+import retrofit2.converter.gson.GsonConverterFactory
+import java.io.IOException
+import java.util.concurrent.TimeUnit
+
+/**
+ * Trades the stored refresh token for a new token pair. Uses its own client without the
+ * AuthInterceptor, and only one refresh runs at a time so parallel requests don't spend
+ * the same refresh token twice.
+ */
+class TokenRefresher(
+    private val tokenManager: TokenManager,
+    baseUrl: String
+) {
+
+    private val userApiService: UserApiService = Retrofit.Builder()
+        .baseUrl(baseUrl)
+        .client(
+            OkHttpClient.Builder()
+                .connectTimeout(30, TimeUnit.SECONDS)
+                .readTimeout(30, TimeUnit.SECONDS)
+                .build()
+        )
+        .addConverterFactory(GsonConverterFactory.create())
+        .build()
+        .create(UserApiService::class.java)
+
+    // Returns the access token to use, or null when there is nothing to refresh with
+    fun refresh(staleToken: String?): String? {
+        synchronized(LOCK) {
+            return exchange(staleToken)
+        }
+    }
+
+    private fun exchange(staleToken: String?): String? {
+        val current = tokenManager.getToken()
+        if (current != null && current != staleToken) return current
+
+        val refreshToken = tokenManager.getRefreshToken() ?: return null
+
+        return try {
+            val response = userApiService.refresh(RefreshRequest(refreshToken)).execute()
+            val body = response.body()
+            when {
+                response.isSuccessful && body != null -> {
+                    tokenManager.saveTokens(body)
+                    body.token
+                }
+                response.code() == 401 -> {
+                    tokenManager.clearToken()
+                    null
+                }
+                else -> null
+            }
+        } catch (e: IOException) {
+            null
+        }
+    }
+
+    companion object {
+        private val LOCK = Any()
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.inventory.service.api
+
+import com.example.inventory.viewModels.DashboardData
+import retrofit2.Response
+import retrofit2.http.GET
+
+interface DashboardApiService {
+
+    @GET("inventory/api/dashboard")
+    suspend fun getDashboard(): Response<DashboardData>
+}
@@ -14,7 +14,9 @@ interface ProductApiService {
         @Query("categoryId") categoryId: Long? = null,
         @Query("lowStock") lowStock: Boolean? = null,
         @Query("lowerBoundaryPrice") lowerBoundaryPrice: Double? = null,
-        @Query("higherBoundaryPrice") higherBoundaryPrice: Double? = null
+        @Query("higherBoundaryPrice") higherBoundaryPrice: Double? = null,
+        @Query("cursor") cursor: String? = null,
+        @Query("size") size: Int? = null
     ): Response<List<ProductResponseDto>>
 
     // Get single product by ID
@@ -2,9 +2,11 @@ package com.example.inventory.service.api
 
 import com.example.inventory.data.LoginResponse
 import com.example.inventory.data.PasswordChangeDto
+import com.example.inventory.data.RefreshRequest
 import com.example.inventory.data.UserCreateDto
 import com.example.inventory.data.UserEditDto
 import com.example.inventory.data.UserResponseDto
+import retrofit2.Call
 import retrofit2.Response
 import retrofit2.http.Body
 import retrofit2.http.DELETE
@@ -21,6 +23,10 @@ interface UserApiService {
     @POST("auth/token")
     suspend fun loginWithBasicAuth(): Response<LoginResponse>
 
+    // Blocking on purpose, it runs inside the OkHttp interceptor
+    @POST("auth/refresh")
+    fun refresh(@Body request: RefreshRequest): Call<LoginResponse>
+
     // Get users with optional filters
     @GET("$BASE_URL/users")
     suspend fun getUsers(
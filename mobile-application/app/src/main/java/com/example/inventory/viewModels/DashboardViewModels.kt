@@ -1,7 +1,5 @@
 package com.example.inventory.viewModels
 
-import android.os.Build
-import androidx.annotation.RequiresApi
 import androidx.lifecycle.ViewModel
 import androidx.lifecycle.viewModelScope
 import com.example.inventory.data.*
@@ -9,9 +7,7 @@ import com.example.inventory.service.api.*
 import kotlinx.coroutines.flow.MutableStateFlow
 import kotlinx.coroutines.flow.StateFlow
 import kotlinx.coroutines.flow.asStateFlow
-import kotlinx.coroutines.async
 import kotlinx.coroutines.launch
-import java.time.LocalDate
 
 // Move DashboardUiState to the top
 sealed class DashboardUiState {
@@ -21,12 +17,7 @@ sealed class DashboardUiState {
 }
 
 class DashboardViewModel(
-    private val productApiService: ProductApiService,
-    private val categoryApiService: CategoryApiService,
-    private val salesApiService: SalesApiService,
-    private val ordersApiService: OrdersApiService,
-    private val suppliersApiService: SuppliersApiService,
-    private val batchApiService: BatchApiService
+    private val dashboardApiService: DashboardApiService
 ) : ViewModel() {
 
     private val _uiState = MutableStateFlow<DashboardUiState>(DashboardUiState.Loading)
@@ -44,33 +35,11 @@ class DashboardViewModel(
         viewModelScope.launch {
             _uiState.value = DashboardUiState.Loading
             try {
-                // Fetch all data in parallel using async
-                val productsDeferred = async { productApiService.getProducts() }
-                val categoriesDeferred = async { categoryApiService.getCategories() }
-                val salesDeferred = async { salesApiService.getSales() }
-                val ordersDeferred = async { ordersApiService.getOrders() }
-                val suppliersDeferred = async { suppliersApiService.getSuppliers() }
-                val batchesDeferred = async { batchApiService.getBatches() }
+                // Counts, totals and the short recent lists are all computed by the server
+                val response = dashboardApiService.getDashboard()
+                val dashboardData = response.body()
 
-                // Await all results
-                val products = productsDeferred.await()
-                val categories = categoriesDeferred.await()
-                val sales = salesDeferred.await()
-                val orders = ordersDeferred.await()
-                val suppliers = suppliersDeferred.await()
-                val batches = batchesDeferred.await()
-
-                if (products.isSuccessful && categories.isSuccessful && sales.isSuccessful &&
-                    orders.isSuccessful && suppliers.isSuccessful && batches.isSuccessful
-                ) {
-                    val dashboardData = DashboardData(
-                        products = products.body() ?: emptyList(),
-                        categories = categories.body() ?: emptyList(),
-                        sales = sales.body() ?: emptyList(),
-                        orders = orders.body() ?: emptyList(),
-                        suppliers = suppliers.body() ?: emptyList(),
-                        batches = batches.body() ?: emptyList()
-                    )
+                if (response.isSuccessful && dashboardData != null) {
                     _uiState.value = DashboardUiState.Success(dashboardData)
                 } else {
                     _uiState.value = DashboardUiState.Error("Failed to load dashboard data")
@@ -83,36 +52,16 @@ class DashboardViewModel(
 }
 
 data class DashboardData(
-    val products: List<ProductResponseDto>,
-    val categories: List<CategoryResponseDto>,
-    val sales: List<SalesResponseDto>,
-    val orders: List<OrderResponseDto>,
-    val suppliers: List<SupplierResponseDto>,
-    val batches: List<BatchResponseDto>
-) {
-    val totalProducts: Int get() = products.size
-    val totalCategories: Int get() = categories.size
-    val totalSuppliers: Int get() = suppliers.size
-    val totalOrders: Int get() = orders.size
-    val totalSales: Int get() = sales.size
-
-    val lowStockProducts: List<ProductResponseDto>
-        get() = products.filter { it.stockLevelLow }
-
-    val totalRevenue: Double
-        get() = sales.sumOf { it.totalAmount }
-
-    val todayRevenue: Double
-        @RequiresApi(Build.VERSION_CODES.O)
-        get() = sales.filter { it.saleDate == LocalDate.now() }
-            .sumOf { it.totalAmount }
-
-    val recentSales: List<SalesResponseDto>
-        get() = sales.sortedByDescending { it.saleDate }.take(5)
-
+    val totalProducts: Int,
+    val totalCategories: Int,
+    val totalSuppliers: Int,
+    val totalOrders: Int,
+    val totalSales: Int,
+    val lowStockCount: Int,
+    val totalRevenue: Double,
+    val todayRevenue: Double,
+    val totalInventoryValue: Double,
+    val lowStockProducts: List<ProductResponseDto>,
+    val recentSales: List<SalesResponseDto>,
     val recentOrders: List<OrderResponseDto>
-        get() = orders.sortedByDescending { it.orderDate }.take(5)
-
-    val totalInventoryValue: Double
-        get() = products.sumOf { it.price * it.inStock }
-}
\ No newline at end of file
+)